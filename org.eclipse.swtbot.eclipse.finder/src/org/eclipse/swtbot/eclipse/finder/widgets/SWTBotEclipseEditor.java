@@ -347,6 +347,15 @@ public class SWTBotEclipseEditor extends SWTBotEditor {
 		styledText.typeText(text);
 	}
 
+	/**
+	 * @param text the text to be pasted at the location of the caret.
+	 * @see SWTBotStyledText#pasteText(java.lang.String)
+	 * @since 2.7
+	 */
+	public void pasteText(String text) {
+		styledText.pasteText(text);
+	}
+
 	/**
 	 * @param line the line number, 0 based.
 	 * @param column the column number, 0 based.
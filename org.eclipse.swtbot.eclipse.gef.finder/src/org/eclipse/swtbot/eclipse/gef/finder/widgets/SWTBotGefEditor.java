@@ -178,6 +178,19 @@ public class SWTBotGefEditor extends SWTBotEditor {
 		viewer.directEditType(text);
 	}
 
+	/**
+	 * type the given text into the graphical editor, presuming that it is already in 'direct edit' mode.
+	 * 
+	 * @param text the text to type.
+	 * @param interval the time to wait between characters in milliseconds, <code>0</code> to type the whole text at
+	 *            once.
+	 * @throws WidgetNotFoundException
+	 * @since 2.7
+	 */
+	public void directEditType(String text, long interval) throws WidgetNotFoundException {
+		viewer.directEditType(text, interval);
+	}
+
 	/**
 	 * @param matcher the matcher that matches on {@link org.eclipse.gef.EditPart}
 	 * @return a collection of {@link SWTBotGefEditPart}
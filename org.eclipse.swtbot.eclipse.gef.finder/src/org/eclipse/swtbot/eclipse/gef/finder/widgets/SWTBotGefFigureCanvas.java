@@ -21,6 +21,7 @@ import org.eclipse.swt.widgets.Text;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBotControl;
 
 /**
@@ -129,15 +130,47 @@ public class SWTBotGefFigureCanvas extends AbstractSWTBotControl<Canvas>{
 		});
     }
     
+    /**
+     * Types the text into a direct edit text control, waiting {@link SWTBotPreferences#TYPE_INTERVAL} between characters,
+     * and applies the value with a default selection event.
+     * @param textControl the direct edit text control
+     * @param text the text to type
+     * @see #typeText(Text, String, long)
+     */
     public void typeText(final Text textControl, final String text) {
-    	oldTypeText(textControl, text);
-    	//TODO need to improve type text before that
-    	//final SWTBotText textBot = new SWTBotText(textControl);
-        //textBot.typeText(text + "\r");          
+        typeText(textControl, text, SWTBotPreferences.TYPE_INTERVAL);
+        //TODO need to improve type text before that
+        //final SWTBotText textBot = new SWTBotText(textControl);
+        //textBot.typeText(text + "\r");
     }
-    
-    private void oldTypeText(final Text textControl, final String text) {
-        
+
+    /**
+     * Types the text into a direct edit text control, and applies the value with a default selection event.
+     * <p>
+     * Each character is sent as key down and key up events and appended to the text. With an interval of
+     * <code>0</code> the whole text is typed and applied in a single task on the UI thread, otherwise each
+     * character is typed in its own task.
+     * </p>
+     * @param textControl the direct edit text control
+     * @param text the text to type
+     * @param interval the time to wait between characters, in milliseconds
+     * @since 2.7
+     */
+    public void typeText(final Text textControl, final String text, long interval) {
+        if (interval <= 0) {
+            UIThreadRunnable.syncExec(new VoidResult() {
+                public void run() {
+                    textControl.setText("");
+                    textControl.setFocus();
+                    for (int x = 0; x < text.length(); ++x) {
+                        typeChar(textControl, text.charAt(x));
+                    }
+                    textControl.notifyListeners(SWT.DefaultSelection, createEvent());
+                }
+            });
+            return;
+        }
+
         UIThreadRunnable.syncExec(new VoidResult() {
             public void run() {
                 textControl.setText("");
@@ -148,15 +181,10 @@ public class SWTBotGefFigureCanvas extends AbstractSWTBotControl<Canvas>{
             UIThreadRunnable.syncExec(new VoidResult() {
                 public void run() {
                     textControl.setFocus();
-                    textControl.notifyListeners(SWT.KeyDown, keyEvent(SWT.NONE, c, 0));
-                    textControl.notifyListeners(SWT.KeyUp, keyEvent(SWT.NONE, c, 0));
-                    textControl.setText(textControl.getText() + c);
+                    typeChar(textControl, c);
                 }
             });
-            try {
-                Thread.sleep(50L);
-            } catch (InterruptedException e) {
-            }
+            sleep(interval);
         }
 
         // apply the value with a default selection event
@@ -167,7 +195,16 @@ public class SWTBotGefFigureCanvas extends AbstractSWTBotControl<Canvas>{
             }
         });
     }
-    
+
+    /**
+     * call on UI thread only
+     */
+    private void typeChar(Text textControl, char c) {
+        textControl.notifyListeners(SWT.KeyDown, keyEvent(SWT.NONE, c, 0));
+        textControl.notifyListeners(SWT.KeyUp, keyEvent(SWT.NONE, c, 0));
+        textControl.append(String.valueOf(c));
+    }
+
     private Event keyEvent(int modificationKey, char c, int keyCode) {
         Event keyEvent = createEvent();
         keyEvent.stateMask = modificationKey;
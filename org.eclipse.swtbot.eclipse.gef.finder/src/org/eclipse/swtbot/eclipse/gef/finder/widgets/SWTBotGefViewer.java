@@ -51,6 +51,7 @@ import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.hamcrest.Matcher;
 
 /**
@@ -267,6 +268,20 @@ public class SWTBotGefViewer {
 	 * @throws WidgetNotFoundException
 	 */
 	public void directEditType(String text) throws WidgetNotFoundException {
+		directEditType(text, SWTBotPreferences.TYPE_INTERVAL);
+	}
+
+	/**
+	 * type the given text into the graphical editor, presuming that it is already in 'direct edit' mode.
+	 * 
+	 * @param text the text to type.
+	 * @param interval the time to wait between characters in milliseconds, <code>0</code> to type the whole text at
+	 *            once.
+	 * @throws WidgetNotFoundException
+	 * @see SWTBotGefFigureCanvas#typeText(Text, String, long)
+	 * @since 2.7
+	 */
+	public void directEditType(String text, long interval) throws WidgetNotFoundException {
 
 		/*
 		 * we use 'bot()' and not 'bot' to scope the widget search to the editor. Otherwise if another widget of the
@@ -278,7 +293,7 @@ public class SWTBotGefViewer {
 		List<? extends Text> controls = bot().widgets(widgetOfType(Text.class), canvas.widget);
 		if (controls.size() == 1) {
 			final Text textControl = controls.get(0);
-			canvas.typeText(textControl, text);
+			canvas.typeText(textControl, text, interval);
 		} else {
 			throw new WidgetNotFoundException(String.format(
 					"Expected to find one text control, but found %s.  Is the editor in direct-edit mode?", controls.size()));
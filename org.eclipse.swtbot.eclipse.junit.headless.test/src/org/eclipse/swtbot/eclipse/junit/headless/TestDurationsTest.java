@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @version $Id$
+ */
+public class TestDurationsTest {
+
+	@Rule
+	public TemporaryFolder	folder	= new TemporaryFolder();
+
+	@Test
+	public void sortsTestClassesLongestFirst() throws Exception {
+		result("Short.xml", "<testsuite name=\"Short\" time=\"1.5\"/>");
+		result("Long.xml", "<testsuite name=\"Long\" time=\"30\"/>");
+		result("Medium.xml", "<testsuite name=\"Medium\" time=\"12.25\"/>");
+
+		TestDurations durations = new TestDurations(folder.getRoot());
+
+		assertEquals(Arrays.asList("Long", "Medium", "Short"), durations.longestFirst(Arrays.asList("Short", "Medium", "Long")));
+		assertEquals(12.25, durations.of("Medium"), 0);
+	}
+
+	@Test
+	public void startsUnknownTestClassesFirst() throws Exception {
+		result("Short.xml", "<testsuite name=\"Short\" time=\"1\"/>");
+		result("Long.xml", "<testsuite name=\"Long\" time=\"20\"/>");
+
+		TestDurations durations = new TestDurations(folder.getRoot());
+
+		assertEquals(20, durations.of("New"), 0);
+		assertEquals(Arrays.asList("Long", "New", "Short"), durations.longestFirst(Arrays.asList("Short", "Long", "New")));
+	}
+
+	@Test
+	public void keepsTheOrderOfTestClassesWithTheSameDuration() throws Exception {
+		result("merged.xml", "<testsuites><testsuite name=\"A\" time=\"5\"/><testsuite name=\"B\" time=\"5\"/><testsuite name=\"C\" time=\"5\"/></testsuites>");
+
+		TestDurations durations = new TestDurations(folder.getRoot());
+
+		assertEquals(Arrays.asList("C", "A", "B"), durations.longestFirst(Arrays.asList("C", "A", "B")));
+	}
+
+	@Test
+	public void ignoresBrokenAndMissingResults() throws Exception {
+		result("broken.xml", "<testsuite name=\"Broken\"");
+		result("Known.xml", "<testsuite name=\"Known\" time=\"not a number\"/>");
+
+		assertEquals(0, new TestDurations(folder.getRoot()).of("Known"), 0);
+		assertEquals(0, new TestDurations(new File(folder.getRoot(), "missing")).of("Known"), 0);
+	}
+
+	private void result(String fileName, String contents) throws IOException {
+		FileWriter writer = new FileWriter(folder.newFile(fileName));
+		try {
+			writer.write(contents);
+		} finally {
+			writer.close();
+		}
+	}
+}
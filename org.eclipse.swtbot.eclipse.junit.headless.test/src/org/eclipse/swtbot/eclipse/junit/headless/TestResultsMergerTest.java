@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+
+/**
+ * @version $Id$
+ */
+public class TestResultsMergerTest {
+
+	@Rule
+	public TemporaryFolder	folder	= new TemporaryFolder();
+
+	@Test
+	public void mergesTestSuitesAndCounts() throws Exception {
+		File first = result("First.xml", "<testsuite name=\"First\" tests=\"3\" failures=\"1\" errors=\"0\" time=\"1.5\"/>");
+		File second = result("Second.xml", "<testsuite name=\"Second\" tests=\"2\" failures=\"0\" errors=\"1\" time=\"2\"/>");
+		File merged = new File(folder.getRoot(), "out/merged.xml");
+
+		TestResultsMerger merger = new TestResultsMerger();
+		merger.addAll(Arrays.asList(first, second));
+		merger.write(merged);
+
+		assertEquals(5, merger.tests());
+		assertEquals(1, merger.failures());
+		assertEquals(1, merger.errors());
+		assertEquals(0, merger.broken());
+
+		Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(merged).getDocumentElement();
+		assertEquals("testsuites", root.getTagName());
+		assertEquals(2, root.getElementsByTagName("testsuite").getLength());
+		assertEquals("5", root.getAttribute("tests"));
+		assertEquals("1", root.getAttribute("failures"));
+		assertEquals("1", root.getAttribute("errors"));
+		assertEquals("3.500", root.getAttribute("time"));
+	}
+
+	@Test
+	public void countsMissingAndBrokenResults() throws Exception {
+		File broken = result("Broken.xml", "<testsuite name=\"Broken\"");
+
+		TestResultsMerger merger = new TestResultsMerger();
+		merger.addAll(Arrays.asList(broken, new File(folder.getRoot(), "Missing.xml")));
+
+		assertEquals(2, merger.broken());
+		assertEquals(0, merger.tests());
+	}
+
+	@Test
+	public void mergesRecordedErrors() throws Exception {
+		File error = new File(folder.getRoot(), "Crashed.xml");
+		TestResultsMerger.writeError(error, "Crashed", "Exited with code 13 without writing results");
+
+		TestResultsMerger merger = new TestResultsMerger();
+		merger.addAll(Arrays.asList(error));
+
+		assertEquals(1, merger.tests());
+		assertEquals(1, merger.errors());
+		assertEquals(0, merger.broken());
+	}
+
+	private File result(String fileName, String contents) throws IOException {
+		File file = folder.newFile(fileName);
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(contents);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}
@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs test classes in parallel, in worker processes that each have their own X display and workspace.
+ * <p>
+ * SWTBot drives a single display per JVM, so a test suite is sharded across JVMs rather than threads. Each shard runs
+ * its test classes one after the other, forking the given command for each test class with the <code>DISPLAY</code>
+ * environment variable set to the display of the shard. The test classes are handed out longest first, using the
+ * durations recorded by a previous run, so that the shards finish at about the same time. Once all the shards are done
+ * the JUnit XML results of the test classes are merged into a single file.
+ * </p>
+ * <p>
+ * The command is given after <code>--</code>, and these tokens are replaced in its arguments:
+ * </p>
+ *
+ * <pre>
+ * &#064;classname&#064;	the test class to run
+ * &#064;shard&#064;		the number of the shard, from 0
+ * &#064;display&#064;		the display of the shard, such as :1
+ * &#064;workspace&#064;	the workspace directory of the shard
+ * &#064;results&#064;		the results directory, where the command writes &#064;classname&#064;.xml
+ * </pre>
+ * <p>
+ * For instance, to run the test classes listed in <code>tests.txt</code> on the displays :1 to :8 using the
+ * <code>swtbot-test</code> target of library.xml:
+ * </p>
+ *
+ * <pre>
+ * java org.eclipse.swtbot.eclipse.junit.headless.ShardedTestRunner -shards 8 -xvfb -classnamesfile tests.txt
+ * 	-results results -workspace workspaces -- ant -f library.xml swtbot-test -Dclassname=&#064;classname&#064;
+ * 	-Ddata-dir=&#064;workspace&#064; -Djunit-report-output=&#064;results&#064; -Dtest-output=&#064;results&#064;/&#064;classname&#064;.xml ...
+ * </pre>
+ *
+ * Parameters:
+ *
+ * <pre>
+ * -shards: the number of worker processes to run at the same time, defaults to 1
+ * -firstDisplay: the display of the first shard, the others use the next ones, defaults to 1
+ * -xvfb: start an Xvfb server on the display of each shard
+ * -classnames: the test classes to run, separated by commas
+ * -classnamesfile: a file listing the test classes to run, one per line
+ * -results: the directory the results are written to, defaults to results
+ * -durations: the directory holding the results of a previous run, defaults to the results directory
+ * -workspace: the directory holding the workspaces of the shards, defaults to workspaces
+ * -timeout: the time a test class may run, in milliseconds, defaults to 7200000
+ * -merged: the file the merged results are written to, defaults to TEST-sharded.xml in the results directory
+ * </pre>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class ShardedTestRunner {
+
+	private static final String	CLASSNAME	= "@classname@";	//$NON-NLS-1$
+	private static final String	SHARD		= "@shard@";		//$NON-NLS-1$
+	private static final String	DISPLAY		= "@display@";		//$NON-NLS-1$
+	private static final String	WORKSPACE	= "@workspace@";	//$NON-NLS-1$
+	private static final String	RESULTS		= "@results@";		//$NON-NLS-1$
+
+	/** The time Xvfb may take to start, in milliseconds. */
+	private static final long	XVFB_TIMEOUT	= 10000;
+
+	private int					shards		= 1;
+	private int					firstDisplay	= 1;
+	private boolean				xvfb;
+	private final List<String>	classNames	= new ArrayList<String>();
+	private File				results		= new File("results");		//$NON-NLS-1$
+	private File				durations;
+	private File				workspace	= new File("workspaces");	//$NON-NLS-1$
+	private long				timeout		= 7200000;
+	private File				merged;
+	private final List<String>	command		= new ArrayList<String>();
+
+	private final Queue<String>	pending		= new ConcurrentLinkedQueue<String>();
+	private final Timer			timer		= new Timer("SWTBot test timeout", true); //$NON-NLS-1$
+
+	/**
+	 * Runs the test classes, see the class documentation for the parameters.
+	 *
+	 * @param args the parameters.
+	 * @throws Exception if the tests could not be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		System.exit(run(args));
+	}
+
+	/**
+	 * Runs the test classes, see the class documentation for the parameters.
+	 *
+	 * @param args the parameters.
+	 * @return {@link EclipseTestRunner#ERRORS} if errors occurred, {@link EclipseTestRunner#FAILURES} if tests failed
+	 *         else {@link EclipseTestRunner#SUCCESS}.
+	 * @throws Exception if the tests could not be run.
+	 */
+	public static int run(String[] args) throws Exception {
+		ShardedTestRunner runner = new ShardedTestRunner();
+		runner.parse(args);
+		return runner.run();
+	}
+
+	private void parse(String[] args) throws IOException {
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i].toLowerCase();
+			if (arg.equals("--")) { //$NON-NLS-1$
+				for (i++; i < args.length; i++)
+					command.add(args[i]);
+			} else if (arg.equals("-xvfb")) //$NON-NLS-1$
+				xvfb = true;
+			else if (i == args.length - 1)
+				throw new IllegalArgumentException("Missing value of " + args[i]); //$NON-NLS-1$
+			else if (arg.equals("-shards")) //$NON-NLS-1$
+				shards = Integer.parseInt(args[++i]);
+			else if (arg.equals("-firstdisplay")) //$NON-NLS-1$
+				firstDisplay = Integer.parseInt(args[++i]);
+			else if (arg.equals("-classnames")) { //$NON-NLS-1$
+				for (String className : args[++i].split(",")) //$NON-NLS-1$
+					addClassName(className);
+			} else if (arg.equals("-classnamesfile")) //$NON-NLS-1$
+				readClassNames(new File(args[++i]));
+			else if (arg.equals("-results")) //$NON-NLS-1$
+				results = new File(args[++i]);
+			else if (arg.equals("-durations")) //$NON-NLS-1$
+				durations = new File(args[++i]);
+			else if (arg.equals("-workspace")) //$NON-NLS-1$
+				workspace = new File(args[++i]);
+			else if (arg.equals("-timeout")) //$NON-NLS-1$
+				timeout = Long.parseLong(args[++i]);
+			else if (arg.equals("-merged")) //$NON-NLS-1$
+				merged = new File(args[++i]);
+			else
+				throw new IllegalArgumentException("Unknown parameter " + args[i]); //$NON-NLS-1$
+		}
+		if (classNames.isEmpty())
+			throw new IllegalArgumentException("Test class names not specified"); //$NON-NLS-1$
+		if (command.isEmpty())
+			throw new IllegalArgumentException("Command not specified"); //$NON-NLS-1$
+		if (shards < 1)
+			throw new IllegalArgumentException("The number of shards must be at least 1"); //$NON-NLS-1$
+		if (durations == null)
+			durations = results;
+		if (merged == null)
+			merged = new File(results, "TEST-sharded.xml"); //$NON-NLS-1$
+	}
+
+	private void readClassNames(File file) throws IOException {
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null)
+				addClassName(line);
+		} finally {
+			reader.close();
+		}
+	}
+
+	private void addClassName(String className) {
+		className = className.trim();
+		if ((className.length() > 0) && !className.startsWith("#")) //$NON-NLS-1$
+			classNames.add(className);
+	}
+
+	private int run() throws Exception {
+		pending.addAll(new TestDurations(durations).longestFirst(classNames));
+		results.mkdirs();
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int shard = 0; shard < Math.min(shards, classNames.size()); shard++) {
+			Thread thread = new Thread(new Shard(shard), "SWTBot test shard " + shard); //$NON-NLS-1$
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads)
+			thread.join();
+		timer.cancel();
+
+		String notRun;
+		while ((notRun = pending.poll()) != null)
+			recordError(notRun, "Not run, all the shards stopped"); //$NON-NLS-1$
+
+		List<File> files = new ArrayList<File>();
+		for (String className : classNames)
+			files.add(resultFile(className));
+		TestResultsMerger merger = new TestResultsMerger();
+		merger.addAll(files);
+		merger.write(merged);
+
+		if ((merger.errors() != 0) || (merger.broken() != 0))
+			return EclipseTestRunner.ERRORS;
+		if (merger.failures() != 0)
+			return EclipseTestRunner.FAILURES;
+		return EclipseTestRunner.SUCCESS;
+	}
+
+	private class Shard implements Runnable {
+		private final int		shard;
+		private final String	display;
+		private final File		shardWorkspace;
+		private final File		log;
+
+		Shard(int shard) {
+			this.shard = shard;
+			this.display = ":" + (firstDisplay + shard); //$NON-NLS-1$
+			this.shardWorkspace = new File(workspace, "shard-" + shard); //$NON-NLS-1$
+			this.log = new File(results, "shard-" + shard + ".log"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		public void run() {
+			Process server = null;
+			OutputStream out = null;
+			try {
+				out = new FileOutputStream(log);
+				if (xvfb)
+					server = startXvfb();
+				String className;
+				while ((className = pending.poll()) != null) {
+					try {
+						runTest(className, out);
+					} catch (InterruptedException e) {
+						recordError(className, "Interrupted"); //$NON-NLS-1$
+						Thread.currentThread().interrupt();
+						return;
+					} catch (Exception e) {
+						System.err.println("Shard " + shard + " could not run " + className + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						recordError(className, "Could not run the test class: " + e); //$NON-NLS-1$
+					}
+				}
+			} catch (Exception e) {
+				System.err.println("Shard " + shard + " stopped: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			} finally {
+				if (server != null)
+					server.destroy();
+				close(out);
+			}
+		}
+
+		/**
+		 * Starts Xvfb and waits until it is ready. Xvfb writes the number of its display to its standard output once it
+		 * accepts connections, whereas the socket of the display may be left over by a server that is gone.
+		 */
+		private Process startXvfb() throws IOException {
+			int number = firstDisplay + shard;
+			final Process server = new ProcessBuilder("Xvfb", display, "-displayfd", "1", "-screen", "0", "1280x1024x24", "-nolisten", "tcp") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+					.start();
+			discard(server.getErrorStream());
+			TimerTask kill = new TimerTask() {
+				@Override
+				public void run() {
+					server.destroy();
+				}
+			};
+			timer.schedule(kill, XVFB_TIMEOUT);
+			String ready;
+			try {
+				ready = new BufferedReader(new InputStreamReader(server.getInputStream())).readLine();
+			} finally {
+				kill.cancel();
+			}
+			if ((ready == null) || !ready.trim().equals(String.valueOf(number))) {
+				server.destroy();
+				throw new IOException("Could not start Xvfb on display " + display); //$NON-NLS-1$
+			}
+			return server;
+		}
+
+		private void runTest(String className, OutputStream out) throws IOException, InterruptedException {
+			System.out.println("Shard " + shard + " running " + className); //$NON-NLS-1$ //$NON-NLS-2$
+			resultFile(className).delete();
+			List<String> arguments = new ArrayList<String>(command.size());
+			for (String argument : command)
+				arguments.add(argument.replace(CLASSNAME, className).replace(SHARD, String.valueOf(shard)).replace(DISPLAY, display)
+						.replace(WORKSPACE, shardWorkspace.getAbsolutePath()).replace(RESULTS, results.getAbsolutePath()));
+			ProcessBuilder builder = new ProcessBuilder(arguments).redirectErrorStream(true);
+			builder.environment().put("DISPLAY", display); //$NON-NLS-1$
+
+			final Process process = builder.start();
+			TimerTask kill = new TimerTask() {
+				@Override
+				public void run() {
+					process.destroy();
+				}
+			};
+			timer.schedule(kill, timeout);
+			try {
+				copy(process.getInputStream(), out);
+				int exitCode = process.waitFor();
+				if (exitCode != 0)
+					System.out.println("Shard " + shard + " ran " + className + " with exit code " + exitCode); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				if (!resultFile(className).exists())
+					recordError(className, "Exited with code " + exitCode + " without writing results"); //$NON-NLS-1$ //$NON-NLS-2$
+			} finally {
+				kill.cancel();
+			}
+		}
+	}
+
+	private File resultFile(String className) {
+		return new File(results, className + ".xml"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reports a test class in error, so that it shows up in the merged results.
+	 */
+	private void recordError(String className, String message) {
+		try {
+			TestResultsMerger.writeError(resultFile(className), className, message);
+		} catch (Exception e) {
+			System.err.println("Could not record the error of " + className + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static void discard(final InputStream in) {
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				try {
+					copy(in, new OutputStream() {
+						@Override
+						public void write(int b) {
+							// discard
+						}
+
+						@Override
+						public void write(byte[] b, int off, int len) {
+							// discard
+						}
+					});
+				} catch (IOException e) {
+					// the process is gone
+				}
+			}
+		}, "SWTBot Xvfb output"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static void copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[8192];
+		try {
+			int read;
+			while ((read = in.read(buffer)) != -1)
+				out.write(buffer, 0, read);
+			out.flush();
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void close(OutputStream out) {
+		if (out == null)
+			return;
+		try {
+			out.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * The durations of test classes, as recorded in the JUnit XML results of a previous run.
+ * <p>
+ * Test classes without a recorded duration are assumed to be as long as the longest known test class, so that new
+ * test classes are started early rather than delaying the end of a run.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class TestDurations {
+
+	private final Map<String, Double>	durations	= new HashMap<String, Double>();
+	private double						longest;
+
+	/**
+	 * Reads the <code>testsuite</code> elements of all the XML files in the given directory. Files that cannot be
+	 * parsed are ignored.
+	 *
+	 * @param directory the directory holding the results of a previous run, may not exist.
+	 */
+	public TestDurations(File directory) {
+		File[] files = directory.listFiles(new FileFilter() {
+			public boolean accept(File file) {
+				return file.isFile() && file.getName().endsWith(".xml"); //$NON-NLS-1$
+			}
+		});
+		if (files == null)
+			return;
+		for (File file : files)
+			read(file);
+	}
+
+	private void read(File file) {
+		Document document;
+		try {
+			DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+			document = builder.parse(file);
+		} catch (Exception e) {
+			return;
+		}
+		NodeList suites = document.getElementsByTagName("testsuite"); //$NON-NLS-1$
+		for (int i = 0; i < suites.getLength(); i++) {
+			Element suite = (Element) suites.item(i);
+			String name = suite.getAttribute("name"); //$NON-NLS-1$
+			try {
+				double time = Double.parseDouble(suite.getAttribute("time")); //$NON-NLS-1$
+				Double known = durations.get(name);
+				if ((known == null) || (known.doubleValue() < time))
+					durations.put(name, time);
+				longest = Math.max(longest, time);
+			} catch (NumberFormatException e) {
+				// no duration recorded
+			}
+		}
+	}
+
+	/**
+	 * @param className the name of a test class.
+	 * @return the recorded duration of the test class in seconds, or the longest recorded duration if there is none.
+	 */
+	public double of(String className) {
+		Double duration = durations.get(className);
+		if (duration != null)
+			return duration.doubleValue();
+		return longest;
+	}
+
+	/**
+	 * Sorts test classes so that the longest come first. Test classes with the same duration keep their order.
+	 *
+	 * @param classNames the names of the test classes.
+	 * @return the sorted names.
+	 */
+	public List<String> longestFirst(List<String> classNames) {
+		List<String> sorted = new ArrayList<String>(classNames);
+		Collections.sort(sorted, new Comparator<String>() {
+			public int compare(String first, String second) {
+				return Double.compare(of(second), of(first));
+			}
+		});
+		return sorted;
+	}
+}
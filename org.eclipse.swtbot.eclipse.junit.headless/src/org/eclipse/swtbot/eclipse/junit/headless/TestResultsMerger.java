@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Merges JUnit XML result files into a single <code>testsuites</code> document, like the <code>junitreport</code>
+ * Ant task does.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class TestResultsMerger {
+
+	private final DocumentBuilder	builder;
+	private final Document			merged;
+	private final Element			root;
+	private int						tests;
+	private int						failures;
+	private int						errors;
+	private int						broken;
+	private double					time;
+
+	/**
+	 * Creates an empty document.
+	 *
+	 * @throws Exception if no XML parser is available.
+	 */
+	public TestResultsMerger() throws Exception {
+		builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		merged = builder.newDocument();
+		root = merged.createElement("testsuites"); //$NON-NLS-1$
+		merged.appendChild(root);
+	}
+
+	/**
+	 * Adds the <code>testsuite</code> elements of a result file.
+	 *
+	 * @param file the result file.
+	 * @throws Exception if the file cannot be parsed.
+	 */
+	public void add(File file) throws Exception {
+		NodeList suites = builder.parse(file).getElementsByTagName("testsuite"); //$NON-NLS-1$
+		for (int i = 0; i < suites.getLength(); i++) {
+			Element suite = (Element) merged.importNode(suites.item(i), true);
+			tests += count(suite, "tests"); //$NON-NLS-1$
+			failures += count(suite, "failures"); //$NON-NLS-1$
+			errors += count(suite, "errors"); //$NON-NLS-1$
+			try {
+				time += Double.parseDouble(suite.getAttribute("time")); //$NON-NLS-1$
+			} catch (NumberFormatException e) {
+				// no duration recorded
+			}
+			root.appendChild(suite);
+		}
+	}
+
+	/**
+	 * Adds the result files that exist, and reports an error for each result file that is missing or broken.
+	 *
+	 * @param files the result files.
+	 */
+	public void addAll(List<File> files) {
+		for (File file : files)
+			try {
+				add(file);
+			} catch (Exception e) {
+				System.err.println("Could not merge test results " + file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				broken++;
+			}
+	}
+
+	private int count(Element suite, String attribute) {
+		try {
+			return Integer.parseInt(suite.getAttribute(attribute));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * @return the number of tests in the added files.
+	 */
+	public int tests() {
+		return tests;
+	}
+
+	/**
+	 * @return the number of failed tests in the added files.
+	 */
+	public int failures() {
+		return failures;
+	}
+
+	/**
+	 * @return the number of tests in error in the added files.
+	 */
+	public int errors() {
+		return errors;
+	}
+
+	/**
+	 * @return the number of result files that could not be added.
+	 */
+	public int broken() {
+		return broken;
+	}
+
+	/**
+	 * Writes the merged document.
+	 *
+	 * @param file the file to write to.
+	 * @throws Exception if the file cannot be written.
+	 */
+	public void write(File file) throws Exception {
+		root.setAttribute("tests", String.valueOf(tests)); //$NON-NLS-1$
+		root.setAttribute("failures", String.valueOf(failures)); //$NON-NLS-1$
+		root.setAttribute("errors", String.valueOf(errors)); //$NON-NLS-1$
+		root.setAttribute("time", String.format(Locale.ENGLISH, "%.3f", time)); //$NON-NLS-1$ //$NON-NLS-2$
+		write(merged, file);
+	}
+
+	/**
+	 * Writes a result file that reports a test class in error, for a test class that could not be run or did not
+	 * write its results.
+	 *
+	 * @param file the file to write to.
+	 * @param className the name of the test class.
+	 * @param message the reason of the error.
+	 * @throws Exception if the file cannot be written.
+	 */
+	public static void writeError(File file, String className, String message) throws Exception {
+		Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		Element suite = document.createElement("testsuite"); //$NON-NLS-1$
+		suite.setAttribute("name", className); //$NON-NLS-1$
+		suite.setAttribute("tests", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		suite.setAttribute("failures", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+		suite.setAttribute("errors", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		suite.setAttribute("time", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+		Element testCase = document.createElement("testcase"); //$NON-NLS-1$
+		testCase.setAttribute("classname", className); //$NON-NLS-1$
+		testCase.setAttribute("name", className); //$NON-NLS-1$
+		testCase.setAttribute("time", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+		Element error = document.createElement("error"); //$NON-NLS-1$
+		error.setAttribute("message", message); //$NON-NLS-1$
+		testCase.appendChild(error);
+		suite.appendChild(testCase);
+		document.appendChild(suite);
+		write(document, file);
+	}
+
+	private static void write(Document document, File file) throws Exception {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null)
+			parent.mkdirs();
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+		transformer.transform(new DOMSource(document), new StreamResult(file));
+	}
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.generator.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.generator.framework.AnnotationRule;
+import org.eclipse.swtbot.generator.framework.GenerationComplexRule;
+import org.eclipse.swtbot.generator.framework.GenerationRuleRegistry;
+import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
+import org.eclipse.swtbot.generator.framework.Generator;
+import org.junit.Test;
+
+public class GenerationRuleRegistryTest {
+
+	@Test
+	public void createsRulesInTheOrderOfTheGenerator() {
+		TestGenerator generator = new TestGenerator(new SelectionRule("first"), new AnyEventRule(), new ModifyRule(),
+				new SelectionRule("last"));
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(generator);
+
+		List<GenerationSimpleRule> rules = registry.createSimpleRules(event(SWT.Selection));
+
+		assertEquals(3, rules.size());
+		assertEquals("first", ((SelectionRule) rules.get(0)).name);
+		assertTrue(rules.get(1) instanceof AnyEventRule);
+		assertEquals("last", ((SelectionRule) rules.get(2)).name);
+		for (GenerationSimpleRule rule : rules) {
+			assertEquals(SWT.Selection, ((TestRule) rule).initializedFor.type);
+		}
+	}
+
+	@Test
+	public void createsRulesForEachEventType() {
+		TestGenerator generator = new TestGenerator(new SelectionRule("selection"), new AnyEventRule(), new ModifyRule());
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(generator);
+
+		List<GenerationSimpleRule> modifyRules = registry.createSimpleRules(event(SWT.Modify));
+		List<GenerationSimpleRule> selectionRules = registry.createSimpleRules(event(SWT.Selection));
+
+		assertEquals(2, modifyRules.size());
+		assertTrue(modifyRules.get(0) instanceof AnyEventRule);
+		assertTrue(modifyRules.get(1) instanceof ModifyRule);
+		assertEquals(2, selectionRules.size());
+		assertTrue(selectionRules.get(0) instanceof SelectionRule);
+		assertTrue(registry.createSimpleRules(event(SWT.KeyDown)).get(0) instanceof AnyEventRule);
+	}
+
+	@Test
+	public void createsEachRuleRegisteredTwice() {
+		ModifyRule rule = new ModifyRule();
+		TestGenerator generator = new TestGenerator(rule, new ModifyRule(), rule);
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(generator);
+
+		List<GenerationSimpleRule> rules = registry.createSimpleRules(event(SWT.Modify));
+
+		assertEquals(3, rules.size());
+		assertNotSame(rules.get(0), rules.get(1));
+		assertNotSame(rules.get(0), rules.get(2));
+		assertNotSame(rule, rules.get(0));
+		assertNotSame(rule, rules.get(2));
+	}
+
+	@Test
+	public void createsNewRulesForEachEvent() {
+		TestGenerator generator = new TestGenerator(new SelectionRule("selection"));
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(generator);
+
+		Event first = event(SWT.Selection);
+		Event second = event(SWT.Selection);
+		GenerationSimpleRule firstRule = registry.createSimpleRules(first).get(0);
+		GenerationSimpleRule secondRule = registry.createSimpleRules(second).get(0);
+
+		assertNotSame(firstRule, secondRule);
+		assertSame(first, ((TestRule) firstRule).initializedFor);
+		assertSame(second, ((TestRule) secondRule).initializedFor);
+	}
+
+	@Test
+	public void createsConfiguredRulesWithTheGenerator() {
+		TestGenerator generator = new TestGenerator(new ConfiguredRule("configured"));
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(generator);
+
+		List<GenerationSimpleRule> rules = registry.createSimpleRules(event(SWT.Selection));
+
+		assertEquals(1, rules.size());
+		assertEquals("configured", ((ConfiguredRule) rules.get(0)).data);
+	}
+
+	@Test
+	public void returnsNoRulesForUnhandledEvents() {
+		GenerationRuleRegistry registry = new GenerationRuleRegistry(new TestGenerator(new ModifyRule()));
+
+		assertTrue(registry.createSimpleRules(event(SWT.Selection)).isEmpty());
+	}
+
+	private static Event event(int type) {
+		Event event = new Event();
+		event.type = type;
+		return event;
+	}
+
+	private static class TestGenerator implements Generator {
+		private final List<GenerationSimpleRule> rules;
+
+		TestGenerator(GenerationSimpleRule... rules) {
+			this.rules = Arrays.asList(rules);
+		}
+
+		@Override
+		public List<GenerationSimpleRule> createSimpleRules() {
+			List<GenerationSimpleRule> created = new ArrayList<GenerationSimpleRule>();
+			for (GenerationSimpleRule rule : rules) {
+				// a copy of the rule, like a generator creating new rules
+				if (rule instanceof SelectionRule)
+					created.add(new SelectionRule(((SelectionRule) rule).name));
+				else if (rule instanceof ConfiguredRule)
+					created.add(new ConfiguredRule(((ConfiguredRule) rule).data));
+				else
+					created.add(rule);
+			}
+			return created;
+		}
+
+		@Override
+		public List<GenerationComplexRule> createComplexRules() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<AnnotationRule> createAnnotationRules() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public String getLabel() {
+			return "Test";
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+	}
+
+	private abstract static class TestRule extends GenerationSimpleRule {
+		Event initializedFor;
+
+		@Override
+		public boolean appliesTo(Event event) {
+			return true;
+		}
+
+		@Override
+		public void initializeForEvent(Event event) {
+			this.initializedFor = event;
+		}
+
+		@Override
+		public Widget getWidget() {
+			return null;
+		}
+
+		@Override
+		public List<String> getActions() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getImports() {
+			return Collections.emptyList();
+		}
+	}
+
+	/** Has no public no-argument constructor, so it is created by the generator. */
+	private static class SelectionRule extends TestRule {
+		final String name;
+
+		SelectionRule(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public int[] getEventTypes() {
+			return new int[] { SWT.Selection };
+		}
+	}
+
+	/** Configured like a rule contributed by extension, copying it with its constructor loses the configuration. */
+	public static class ConfiguredRule extends TestRule implements IExecutableExtension {
+		Object data;
+
+		public ConfiguredRule() {
+		}
+
+		ConfiguredRule(Object data) {
+			this.data = data;
+		}
+
+		@Override
+		public void setInitializationData(IConfigurationElement config, String propertyName, Object data) throws CoreException {
+			this.data = data;
+		}
+
+		@Override
+		public int[] getEventTypes() {
+			return new int[] { SWT.Selection };
+		}
+	}
+
+	public static class ModifyRule extends TestRule {
+		@Override
+		public int[] getEventTypes() {
+			return new int[] { SWT.Modify };
+		}
+	}
+
+	public static class AnyEventRule extends TestRule {
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.generator.framework;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * The rules of a {@link Generator}, indexed by event type and widget class.
+ * <p>
+ * The rules of the generator are created once and shared by all events. For each event only the rules declaring
+ * its type and widget class are asked whether they apply to the event, see
+ * {@link GenerationSimpleRule#getEventTypes()} and {@link GenerationSimpleRule#getWidgetClass()}, and a new rule is
+ * created and initialized only for the rules that apply.
+ * </p>
+ * <p>
+ * New rules are created with the public no-argument constructor of the shared rules, or by the generator for rules
+ * that have none and for rules implementing {@link IExecutableExtension}, since a constructor would skip their
+ * configuration.
+ * </p>
+ */
+public class GenerationRuleRegistry {
+
+	private static final GenerationSimpleRule[] NO_RULES = new GenerationSimpleRule[0];
+
+	private final Generator generator;
+	private final List<GenerationSimpleRule> simpleRules;
+	private final List<GenerationComplexRule> complexRules;
+	/** Rules by event type and widget class, filled as events are seen. */
+	private final Map<Integer, Map<Class<?>, GenerationSimpleRule[]>> index = new HashMap<Integer, Map<Class<?>, GenerationSimpleRule[]>>();
+
+	/**
+	 * Creates the rules of the generator.
+	 * @param generator the generator
+	 */
+	public GenerationRuleRegistry(Generator generator) {
+		this.generator = generator;
+		this.simpleRules = generator.createSimpleRules();
+		this.complexRules = generator.createComplexRules();
+	}
+
+	/**
+	 * Creates the simple rules applying to an event, initialized for the event.
+	 * @param event the event
+	 * @return the new rules, in the order of the generator, an unmodifiable empty list if there are none
+	 */
+	public List<GenerationSimpleRule> createSimpleRules(Event event) {
+		GenerationSimpleRule[] candidates = candidates(event);
+		if (candidates.length == 0) {
+			return Collections.emptyList();
+		}
+		List<GenerationSimpleRule> rules = new ArrayList<GenerationSimpleRule>();
+		for (GenerationSimpleRule candidate : candidates) {
+			if (candidate.appliesTo(event)) {
+				GenerationSimpleRule rule = newRule(candidate, simpleRules);
+				rule.initializeForEvent(event);
+				rules.add(rule);
+			}
+		}
+		return rules;
+	}
+
+	/**
+	 * Creates the complex rules of the generator.
+	 * @return the new rules, in the order of the generator
+	 */
+	public List<GenerationComplexRule> createComplexRules() {
+		List<GenerationComplexRule> rules = new ArrayList<GenerationComplexRule>(complexRules.size());
+		for (GenerationComplexRule rule : complexRules) {
+			rules.add(newRule(rule, complexRules));
+		}
+		return rules;
+	}
+
+	private GenerationSimpleRule[] candidates(Event event) {
+		Map<Class<?>, GenerationSimpleRule[]> byClass = index.get(event.type);
+		if (byClass == null) {
+			byClass = new HashMap<Class<?>, GenerationSimpleRule[]>();
+			index.put(event.type, byClass);
+		}
+		Class<?> widgetClass = event.widget == null ? null : event.widget.getClass();
+		GenerationSimpleRule[] candidates = byClass.get(widgetClass);
+		if (candidates == null) {
+			List<GenerationSimpleRule> matching = new ArrayList<GenerationSimpleRule>();
+			for (GenerationSimpleRule rule : simpleRules) {
+				if (handles(rule, event.type, widgetClass)) {
+					matching.add(rule);
+				}
+			}
+			candidates = matching.isEmpty() ? NO_RULES : matching.toArray(new GenerationSimpleRule[matching.size()]);
+			byClass.put(widgetClass, candidates);
+		}
+		return candidates;
+	}
+
+	private boolean handles(GenerationSimpleRule rule, int eventType, Class<?> widgetClass) {
+		int[] eventTypes = rule.getEventTypes();
+		if (eventTypes != null) {
+			boolean found = false;
+			for (int type : eventTypes) {
+				found |= type == eventType;
+			}
+			if (!found) {
+				return false;
+			}
+		}
+		Class<? extends Widget> ruleWidgetClass = rule.getWidgetClass();
+		return ruleWidgetClass == null || (widgetClass != null && ruleWidgetClass.isAssignableFrom(widgetClass));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends GenerationRule> T newRule(T rule, List<T> rules) {
+		if (!(rule instanceof IExecutableExtension)) {
+			try {
+				return (T) rule.getClass().getConstructor().newInstance();
+			} catch (Exception e) {
+				// no public no-argument constructor, created by the generator
+			}
+		}
+		// created by the generator, at the same position, which also configures the rules contributed by extension
+		int position = rules.indexOf(rule);
+		List<? extends GenerationRule> created = rule instanceof GenerationSimpleRule ? generator.createSimpleRules() : generator.createComplexRules();
+		return (T) created.get(position);
+	}
+}
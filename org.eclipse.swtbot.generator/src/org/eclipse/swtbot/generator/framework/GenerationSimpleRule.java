@@ -20,7 +20,9 @@ import org.eclipse.swt.widgets.Widget;
 public abstract class GenerationSimpleRule extends GenerationRule{
 
 	/**
-	 * Checks whether event applies to this rule
+	 * Checks whether event applies to this rule.
+	 * This is called on a rule shared by all events, before a new rule is
+	 * initialized for the event, so it must not depend on the state of the rule.
 	 * @param event to check if it applies to rule
 	 * @return true if rules applies to given rule, false otherwise
 	 */
@@ -39,4 +41,26 @@ public abstract class GenerationSimpleRule extends GenerationRule{
 	 */
 	public abstract Widget getWidget();
 
+	/**
+	 * Lets rules be looked up by event type, so that they are not asked about
+	 * events they never apply to.
+	 * @return the types of the events this rule may apply to, or null if it may
+	 * apply to events of any type
+	 * @see #appliesTo(Event)
+	 */
+	public int[] getEventTypes() {
+		return null;
+	}
+
+	/**
+	 * Lets rules be looked up by widget class, so that they are not asked about
+	 * events they never apply to.
+	 * @return the class of the widgets this rule may apply to, or null if it may
+	 * apply to events of any widget
+	 * @see #appliesTo(Event)
+	 */
+	public Class<? extends Widget> getWidgetClass() {
+		return null;
+	}
+
 }
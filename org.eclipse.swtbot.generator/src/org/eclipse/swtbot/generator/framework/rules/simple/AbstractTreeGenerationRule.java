@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -37,6 +38,11 @@ public abstract class AbstractTreeGenerationRule extends GenerationSimpleRule {
 		return event.widget instanceof Tree && event.item instanceof TreeItem;
 	}
 
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return Tree.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.tree = (Tree)event.widget;
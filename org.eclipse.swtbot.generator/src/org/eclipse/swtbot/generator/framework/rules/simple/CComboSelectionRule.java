@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CCombo;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -31,6 +32,16 @@ public class CComboSelectionRule extends GenerationSimpleRule {
 		return event.widget instanceof CCombo && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return CCombo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (CCombo)event.widget;
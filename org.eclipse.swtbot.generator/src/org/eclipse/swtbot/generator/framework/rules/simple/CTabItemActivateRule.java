@@ -17,6 +17,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabItem;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 
 public class CTabItemActivateRule extends GenerationSimpleRule {
@@ -29,6 +30,16 @@ public class CTabItemActivateRule extends GenerationSimpleRule {
 		return event.widget instanceof CTabFolder && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return CTabFolder.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.cTabItem = (CTabItem) event.item;
@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -32,6 +33,16 @@ public class CheckboxClickedRule extends GenerationSimpleRule {
 				&& event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return Button.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.button = (Button)event.widget;
@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -37,6 +38,16 @@ public class ComboSelectionRule extends GenerationSimpleRule {
 				Arrays.asList(combo.getItems()).contains(combo.getText());
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return Combo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (Combo)event.widget;
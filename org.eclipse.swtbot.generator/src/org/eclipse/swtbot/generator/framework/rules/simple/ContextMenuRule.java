@@ -19,6 +19,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -44,6 +45,16 @@ public class ContextMenuRule extends GenerationSimpleRule{
 		return event.type == SWT.Selection && menu && (style & SWT.POP_UP)!=0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return MenuItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.item = (MenuItem) event.widget;
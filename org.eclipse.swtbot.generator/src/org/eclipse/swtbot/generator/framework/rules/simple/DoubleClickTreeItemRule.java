@@ -23,6 +23,11 @@ public class DoubleClickTreeItemRule extends AbstractTreeGenerationRule {
 		return super.appliesTo(event) && event.type == SWT.MouseDoubleClick;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.MouseDoubleClick };
+	}
+
 	@Override
 	public List<String> getActions() {
 		List<String> actions = new ArrayList<String>();
@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -34,6 +35,16 @@ public class ModifyStyledTextRule extends GenerationSimpleRule {
 		return false;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return StyledText.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.text = (StyledText)event.widget;
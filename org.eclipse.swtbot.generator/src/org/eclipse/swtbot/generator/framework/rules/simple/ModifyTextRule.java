@@ -33,6 +33,16 @@ public class ModifyTextRule extends GenerationSimpleRule {
 				!((Text)event.widget).getText().equals(((Text)event.widget).getMessage());
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return Text.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.text = (Text) event.widget;
@@ -23,6 +23,11 @@ public class SelectTreeItemRule extends AbstractTreeGenerationRule {
 		return super.appliesTo(e) && e.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
 	@Override
 	public List<String> getActions() {
 		List<String> actions = new ArrayList<String>();
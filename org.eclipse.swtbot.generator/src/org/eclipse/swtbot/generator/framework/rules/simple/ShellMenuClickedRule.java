@@ -18,6 +18,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -41,6 +42,16 @@ public class ShellMenuClickedRule extends GenerationSimpleRule {
 		return event.type == SWT.Selection && menu && (style & SWT.BAR)!=0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return MenuItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.item = (MenuItem)event.widget;
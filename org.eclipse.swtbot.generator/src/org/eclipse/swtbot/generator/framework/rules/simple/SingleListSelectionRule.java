@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.List;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
 
@@ -31,6 +32,16 @@ public class SingleListSelectionRule extends GenerationSimpleRule {
 			(((List)event.widget).getStyle() & SWT.SINGLE) != 0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return List.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (List)event.widget;
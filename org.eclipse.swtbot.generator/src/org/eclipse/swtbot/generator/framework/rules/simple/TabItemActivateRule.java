@@ -17,6 +17,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.TabFolder;
 import org.eclipse.swt.widgets.TabItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 
 public class TabItemActivateRule extends GenerationSimpleRule {
@@ -29,6 +30,16 @@ public class TabItemActivateRule extends GenerationSimpleRule {
 		return event.widget instanceof TabFolder && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return TabFolder.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.tabItem = (TabItem)event.item;
@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.ToolItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 
 public class ToolBarDropDownRule extends GenerationSimpleRule{
@@ -30,6 +31,16 @@ public class ToolBarDropDownRule extends GenerationSimpleRule{
 				(((ToolItem)event.widget).getStyle() & SWT.DROP_DOWN)!= 0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return ToolItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (ToolItem)event.widget;
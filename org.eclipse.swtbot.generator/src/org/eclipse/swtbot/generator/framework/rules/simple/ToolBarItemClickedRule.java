@@ -16,6 +16,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.ToolItem;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 
 public class ToolBarItemClickedRule extends GenerationSimpleRule{
@@ -34,6 +35,16 @@ public class ToolBarItemClickedRule extends GenerationSimpleRule{
 		return false;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<? extends Widget> getWidgetClass() {
+		return ToolItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (ToolItem)event.widget;
@@ -26,6 +26,7 @@ import org.eclipse.swt.widgets.TabItem;
 import org.eclipse.swt.widgets.ToolItem;
 import org.eclipse.swtbot.generator.framework.GenerationComplexRule;
 import org.eclipse.swtbot.generator.framework.GenerationRule;
+import org.eclipse.swtbot.generator.framework.GenerationRuleRegistry;
 import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
 import org.eclipse.swtbot.generator.framework.Generator;
 import org.eclipse.swtbot.generator.framework.WidgetUtils;
@@ -39,6 +40,7 @@ public class BotGeneratorEventDispatcher implements Listener{
 	}
 
 	private Generator generator;
+	private GenerationRuleRegistry rules;
 	private List<CodeGenerationListener> listeners = new ArrayList<CodeGenerationListener>();
 	private List<Shell> ignoredShells;
 	private boolean recording = false;
@@ -49,6 +51,7 @@ public class BotGeneratorEventDispatcher implements Listener{
 
 	public void setGenerator(Generator generator) {
 		this.generator = generator;
+		this.rules = generator == null ? null : new GenerationRuleRegistry(generator);
 	}
 
 	public void addListener(CodeGenerationListener listener) {
@@ -129,17 +132,13 @@ public class BotGeneratorEventDispatcher implements Listener{
 	 */
 	private void processRules(Event event, boolean forceGeneration) {
 		if (event != null) {
-			for (GenerationSimpleRule rule : generator.createSimpleRules()) {
-				if (rule.appliesTo(event)) {
-					rule.initializeForEvent(event);
-					simpleRules.add(rule); //store simple rule for further processing
-				}
-			}
+			//store simple rules for further processing
+			simpleRules.addAll(rules.createSimpleRules(event));
 		}
 
 		if (!this.simpleRules.isEmpty()) {
 			if (this.activeComplexRules.isEmpty()) {
-				this.activeComplexRules.addAll(this.generator.createComplexRules());
+				this.activeComplexRules.addAll(this.rules.createComplexRules());
 			}
 			filterComplexRulesAndUpdateLongest();
 			if (this.activeComplexRules.isEmpty() || forceGeneration) {
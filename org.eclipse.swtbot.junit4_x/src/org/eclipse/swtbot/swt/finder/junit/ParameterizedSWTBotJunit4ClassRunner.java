@@ -11,6 +11,7 @@
 package org.eclipse.swtbot.swt.finder.junit;
 
 import org.eclipse.swtbot.swt.finder.junit.internal.CapturingFrameworkMethod;
+import org.eclipse.swtbot.swt.finder.junit.internal.InstrumentationReporter;
 import org.eclipse.swtbot.swt.finder.junit.internal.ScreenshotCaptureNotifier;
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
@@ -80,7 +81,13 @@ public class ParameterizedSWTBotJunit4ClassRunner extends BlockJUnit4ClassRunner
 				toRun = new CapturingFrameworkMethod(method.getMethod(), description,
 						(ScreenshotCaptureNotifier) notifier);
 			}
-			runLeaf(methodBlock(toRun), description, notifier);
+			InstrumentationReporter reporter = InstrumentationReporter.start(description);
+			try {
+				runLeaf(methodBlock(toRun), description, notifier);
+			} finally {
+				if (reporter != null)
+					reporter.finish();
+			}
 		}
 	}
 
@@ -13,6 +13,7 @@
 package org.eclipse.swtbot.swt.finder.junit;
 
 import org.eclipse.swtbot.swt.finder.junit.internal.CapturingFrameworkMethod;
+import org.eclipse.swtbot.swt.finder.junit.internal.InstrumentationReporter;
 import org.eclipse.swtbot.swt.finder.junit.internal.ScreenshotCaptureNotifier;
 import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
@@ -32,6 +33,10 @@ import org.junit.runners.model.FrameworkMethod;
  * 	}
  * }
  * </pre>
+ * <p>
+ * When {@link org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences#INSTRUMENTATION} is set, the number and duration
+ * of the SWTBot operations performed by each test are logged once the test is done.
+ * </p>
  *
  * @author Hans Schwaebli (Bug 259787)
  * @author Toby Weston (Bug 259787)
@@ -72,7 +77,13 @@ public class SWTBotJunit4ClassRunner extends BlockJUnit4ClassRunner {
 				toRun = new CapturingFrameworkMethod(method.getMethod(), description,
 						(ScreenshotCaptureNotifier) notifier);
 			}
-			runLeaf(methodBlock(toRun), description, notifier);
+			InstrumentationReporter reporter = InstrumentationReporter.start(description);
+			try {
+				runLeaf(methodBlock(toRun), description, notifier);
+			} finally {
+				if (reporter != null)
+					reporter.finish();
+			}
 		}
 	}
 
@@ -12,16 +12,22 @@
 package org.eclipse.swtbot.swt.finder.junit;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
-import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.eclipse.swtbot.swt.finder.utils.ScreenshotWriter;
 import org.junit.runner.Description;
+import org.junit.runner.Result;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
 
 /**
  * Captures screenshots on failure notifications.
+ * <p>
+ * Screenshots are saved in the background, so that neither the application nor the next test wait for them. Set
+ * {@link SWTBotPreferences#SCREENSHOT_ACTIVE_SHELL} to capture only the active shell.
+ * </p>
  *
  * @author Hans Schwaebli (Bug 259787)
  * @version $Id$
@@ -32,13 +38,21 @@ public final class ScreenshotCaptureListener extends RunListener {
 	private static Logger log = Logger.getLogger(SWTBotApplicationLauncherClassRunner.class);
 
 	/** Counts the screenshots to determine if maximum number is reached. */
-	private static int screenshotCounter = 0;
+	private static final AtomicInteger screenshotCounter = new AtomicInteger();
+
+	/** Saves the screenshots in the background. */
+	private static final ScreenshotWriter writer = createWriter();
 
 	@Override
 	public void testFailure(Failure failure) throws Exception {
 		captureScreenshot(failure);
 	}
 
+	@Override
+	public void testRunFinished(Result result) throws Exception {
+		flush();
+	}
+
 	/**
 	 * Removes a previously taken screenshot, if any.
 	 *
@@ -47,13 +61,46 @@ public final class ScreenshotCaptureListener extends RunListener {
 	 * @since 2.4
 	 */
 	public void removeScreenshot(Description description) {
-		File file = new File(getFileName(new Failure(description, null)));
+		String fileName = getFileName(new Failure(description, null));
+		if (writer.cancel(fileName)) {
+			screenshotCounter.decrementAndGet();
+			return;
+		}
+		flush();
+		File file = new File(fileName);
 		if (file.exists()) {
 			log.debug("Removing screenshot '" + file.getPath() + '\''); //$NON-NLS-1$
 			if (!file.delete() && file.exists()) {
 				log.warn("Could not remove screenshot " + file.getAbsolutePath()); //$NON-NLS-1$
 			}
-			--screenshotCounter;
+			screenshotCounter.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Creates the writer, and makes sure that the screenshots it holds are saved before the VM exits, since headless
+	 * runners call {@link System#exit(int)} once the tests are run.
+	 */
+	private static ScreenshotWriter createWriter() {
+		ScreenshotWriter writer = new ScreenshotWriter(16);
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+			@Override
+			public void run() {
+				flush();
+			}
+		}, "SWTBot screenshot flush")); //$NON-NLS-1$
+		return writer;
+	}
+
+	/**
+	 * Waits for the screenshots captured so far to be saved, at most {@link SWTBotPreferences#TIMEOUT}.
+	 */
+	private static void flush() {
+		try {
+			if (!writer.flush(SWTBotPreferences.TIMEOUT))
+				log.warn("Timed out while saving screenshots"); //$NON-NLS-1$
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -61,7 +108,7 @@ public final class ScreenshotCaptureListener extends RunListener {
 		try {
 			int maximumScreenshots = SWTBotPreferences.MAX_ERROR_SCREENSHOT_COUNT;
 			String fileName = getFileName(failure);
-			if (++screenshotCounter <= maximumScreenshots) {
+			if (screenshotCounter.incrementAndGet() <= maximumScreenshots) {
 				captureScreenshot(fileName);
 			} else {
 				log.info("No screenshot captured for '" + failure.getTestHeader() //$NON-NLS-1$
@@ -79,7 +126,7 @@ public final class ScreenshotCaptureListener extends RunListener {
 	}
 
 	private boolean captureScreenshot(String fileName) {
-		return SWTUtils.captureScreenshot(fileName);
+		return writer.capture(fileName, SWTBotPreferences.SCREENSHOT_ACTIVE_SHELL);
 	}
 
 	@Override
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.junit.internal;
+
+import org.apache.log4j.Logger;
+import org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation;
+import org.eclipse.swtbot.swt.finder.instrumentation.OperationStatistics;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.junit.runner.Description;
+
+/**
+ * Records the SWTBot operations performed by a test and logs a summary once the test is done, when
+ * {@link SWTBotPreferences#INSTRUMENTATION} is set.
+ */
+public final class InstrumentationReporter {
+
+	private static final Logger			log	= Logger.getLogger(InstrumentationReporter.class);
+
+	private final Description			description;
+	private final OperationStatistics	statistics;
+
+	private InstrumentationReporter(Description description) {
+		this.description = description;
+		this.statistics = new OperationStatistics();
+		Instrumentation.addListener(statistics);
+	}
+
+	/**
+	 * Starts recording the operations of a test.
+	 *
+	 * @param description the test.
+	 * @return the reporter to {@link #finish()} once the test is done, or <code>null</code> if instrumentation is off.
+	 */
+	public static InstrumentationReporter start(Description description) {
+		if (!SWTBotPreferences.INSTRUMENTATION)
+			return null;
+		return new InstrumentationReporter(description);
+	}
+
+	/**
+	 * Stops recording and logs the summary of the operations of the test.
+	 */
+	public void finish() {
+		Instrumentation.removeListener(statistics);
+		String summary = statistics.toString();
+		if (summary.length() > 0)
+			log.info("SWTBot operations in " + description.getDisplayName() + ":\n" + summary); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
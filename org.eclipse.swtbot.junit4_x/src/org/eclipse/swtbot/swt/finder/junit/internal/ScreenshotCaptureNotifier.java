@@ -96,6 +96,7 @@ public class ScreenshotCaptureNotifier extends RunNotifier {
 
 	@Override
 	public void fireTestRunFinished(Result result) {
+		super.fireTestRunFinished(result);
 		delegate.fireTestRunFinished(result);
 	}
 
@@ -13,11 +13,18 @@
 package org.eclipse.swtbot.nebula.nattable.finder.test2;
 
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.swtbot.nebula.nattable.finder.widgets.CellDifference;
 import org.eclipse.swtbot.nebula.nattable.finder.widgets.Position;
 import org.eclipse.swtbot.nebula.nattable.finder.widgets.SWTBotNatTable;
 import org.eclipse.swtbot.swt.finder.junit.SWTBotJunit4ClassRunner;
@@ -134,6 +141,63 @@ public class TestNatTableOtherFeatures extends _801_VerticalCompositionWithFeatu
 		nattable.scrollViewport(position, 0, 30);
 	}
 
+	/**
+	 * Tests reading the rows of the scrollable layer in chunks.
+	 */
+	@Test
+	public void testScrollableRows() {
+		SWTBotNatTable nattable = bot.nattable();
+		// viewport position is any cell below the header and filter rows
+		Position position = new Position(2, 0);
+
+		List<String[]> rows = toList(nattable.scrollableRows(position));
+		List<String[]> chunkedRows = toList(nattable.scrollableRows(position, 0, -1, 7));
+		assertEquals("Row count", rows.size(), chunkedRows.size());
+		for (int row = 0; row < rows.size(); row++) {
+			assertArrayEquals("Row " + row, rows.get(row), chunkedRows.get(row));
+		}
+
+		int lastRow = rows.size() - 1;
+		assertEquals("First row", nattable.getCellDataValueByPosition(nattable.scrollViewport(position, 0, 0)),
+				rows.get(0)[0]);
+		assertEquals("Last row", nattable.getCellDataValueByPosition(nattable.scrollViewport(position, lastRow, 0)),
+				rows.get(lastRow)[0]);
+		assertEquals("Range", 2, toList(nattable.scrollableRows(position, 0, 2, 1)).size());
+	}
+
+	/**
+	 * Tests comparing the rows of the scrollable layer with expected rows.
+	 */
+	@Test
+	public void testScrollableRowsCompare() {
+		SWTBotNatTable nattable = bot.nattable();
+		Position position = new Position(2, 0);
+		List<String[]> expected = toList(nattable.scrollableRows(position));
+		assertTrue(nattable.compareScrollableRows(position, 0, -1, expected.iterator(), 10).isEmpty());
+
+		expected.get(1)[2] = "changed";
+		expected.remove(expected.size() - 1);
+		List<CellDifference> differences = nattable.compareScrollableRows(position, 0, -1, expected.iterator(), 10);
+		assertEquals("Differences " + differences, 2, differences.size());
+		assertEquals(1, differences.get(0).row);
+		assertEquals(2, differences.get(0).column);
+		assertEquals("changed", differences.get(0).expected);
+		assertEquals(expected.size(), differences.get(1).row);
+		assertEquals(-1, differences.get(1).column);
+		assertNull(differences.get(1).expected);
+
+		assertEquals(1, nattable.compareScrollableRows(position, 0, -1, expected.iterator(), 1).size());
+		assertTrue(nattable.compareScrollableRows(position, 2, 4, expected.subList(2, 4).iterator(), 10).isEmpty());
+	}
+
+	private static List<String[]> toList(Iterator<String[]> rows) {
+		List<String[]> list = new ArrayList<String[]>();
+		while (rows.hasNext()) {
+			list.add(rows.next());
+		}
+		return list;
+	}
+
 	/**
 	 * Tests labels used for custom style.
 	 */
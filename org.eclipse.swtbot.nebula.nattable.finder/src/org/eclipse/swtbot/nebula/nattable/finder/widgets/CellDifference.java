@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.nebula.nattable.finder.widgets;
+
+/**
+ * A cell whose value differs from the expected value, as found by
+ * {@link SWTBotNatTable#compareScrollableRows(Position, int, int, java.util.Iterator, int)}.
+ * <p>
+ * A row that is missing from the NatTable, or that is not expected, is
+ * reported as a single difference with the column <code>-1</code>.
+ *
+ * @since 2.7
+ */
+public class CellDifference {
+
+	/** the row, in the scrollable layer's coordinates */
+	public final int row;
+	/** the column, or <code>-1</code> for a missing or unexpected row */
+	public final int column;
+	/** the expected value, <code>null</code> if none was expected */
+	public final String expected;
+	/** the actual value, <code>null</code> if there is none */
+	public final String actual;
+
+	/**
+	 * Constructor
+	 *
+	 * @param row the row
+	 * @param column the column
+	 * @param expected the expected value
+	 * @param actual the actual value
+	 */
+	public CellDifference(int row, int column, String expected, String actual) {
+		this.row = row;
+		this.column = column;
+		this.expected = expected;
+		this.actual = actual;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[row=%d, column=%d, expected=%s, actual=%s]", row, column, expected, actual);
+	}
+}
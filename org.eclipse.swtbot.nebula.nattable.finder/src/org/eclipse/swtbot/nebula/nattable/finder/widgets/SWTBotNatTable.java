@@ -13,6 +13,13 @@
  *******************************************************************************/
 package org.eclipse.swtbot.nebula.nattable.finder.widgets;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import org.eclipse.nebula.widgets.nattable.NatTable;
 import org.eclipse.nebula.widgets.nattable.coordinate.PixelCoordinate;
 import org.eclipse.nebula.widgets.nattable.edit.editor.ICellEditor;
@@ -29,6 +36,7 @@ import org.eclipse.swtbot.swt.finder.SWTBotWidget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.eclipse.swtbot.swt.finder.results.ListResult;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
@@ -45,6 +53,9 @@ import org.hamcrest.SelfDescribing;
  */
 @SWTBotWidget(clasz = NatTable.class, preferredName = "NatTable", referenceBy = { ReferenceBy.LABEL })
 public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
+	/** The number of rows read on the UI thread at a time by {@link #scrollableRows(Position)}. */
+	private static final int DEFAULT_CHUNK_SIZE = 1000;
+
 	/**
 	 * The default constructor
 	 *
@@ -424,6 +435,189 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 		return new Position(position.row + offset.row, position.column + offset.column);
 	}
 
+	/**
+	 * Reads all the rows of the scrollable layer under the viewport found at
+	 * the specified NatTable position, see
+	 * {@link #scrollableRows(Position, int, int, int)}.
+	 *
+	 * @param position
+	 *            a visible position in the NatTable with an underlying viewport
+	 * @return the rows, as cell values in the scrollable layer's column order
+	 * @throws IllegalArgumentException
+	 *             if the specified position does not have an underlying
+	 *             viewport layer
+	 * @since 2.7
+	 */
+	public Iterator<String[]> scrollableRows(Position position) {
+		return scrollableRows(position, 0, -1, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Reads rows of the scrollable layer under the viewport found at the
+	 * specified NatTable position, without scrolling the viewport.
+	 * <p>
+	 * The rows are read on the UI thread in chunks of <code>chunkSize</code>
+	 * rows as the iterator advances, so that only one chunk is held in memory
+	 * at a time. The rows reflect the sorting and filtering of the scrollable
+	 * layer at the time each chunk is read.
+	 *
+	 * @param position
+	 *            a visible position in the NatTable with an underlying viewport
+	 * @param fromRow
+	 *            the first row to read (in the viewport's underlying scrollable
+	 *            layer's coordinates)
+	 * @param toRow
+	 *            the row after the last row to read, or <code>-1</code> to read
+	 *            until the last row
+	 * @param chunkSize
+	 *            the number of rows to read on the UI thread at a time
+	 * @return the rows, as cell values in the scrollable layer's column order
+	 * @throws IllegalArgumentException
+	 *             if the specified position does not have an underlying
+	 *             viewport layer
+	 * @since 2.7
+	 */
+	public Iterator<String[]> scrollableRows(final Position position, int fromRow, int toRow, int chunkSize) {
+		Assert.isLegal(fromRow >= 0, "The row number (" + fromRow + ") is out of bounds"); //$NON-NLS-1$ //$NON-NLS-2$
+		Assert.isLegal(chunkSize > 0, "The chunk size should be greater than 0"); //$NON-NLS-1$
+		ILayer scrollableLayer = syncExec(new Result<ILayer>() {
+			@Override
+			public ILayer run() {
+				Position viewportPosition = new Position(position);
+				ViewportLayer viewportLayer = getViewportLayer(viewportPosition);
+				assertIsValidLayer(viewportLayer, "viewport layer", position); //$NON-NLS-1$
+				return viewportLayer.getUnderlyingLayerByPosition(viewportPosition.column, viewportPosition.row);
+			}
+		});
+		return new RowIterator(scrollableLayer, fromRow, toRow, chunkSize);
+	}
+
+	/**
+	 * Compares rows of the scrollable layer under the viewport found at the
+	 * specified NatTable position with the expected rows, without scrolling
+	 * the viewport.
+	 * <p>
+	 * The rows are compared as they are read, see
+	 * {@link #scrollableRows(Position, int, int, int)}, so neither the actual
+	 * nor the expected rows need to be held in memory. The comparison stops
+	 * when <code>maximumDifferences</code> differences are found.
+	 *
+	 * @param position
+	 *            a visible position in the NatTable with an underlying viewport
+	 * @param fromRow
+	 *            the first row to compare (in the viewport's underlying
+	 *            scrollable layer's coordinates)
+	 * @param toRow
+	 *            the row after the last row to compare, or <code>-1</code> to
+	 *            compare until the last row
+	 * @param expected
+	 *            the expected rows, starting at <code>fromRow</code> and up to
+	 *            <code>toRow</code>
+	 * @param maximumDifferences
+	 *            the number of differences after which to stop comparing
+	 * @return the differences, empty if the rows are as expected
+	 * @throws IllegalArgumentException
+	 *             if the specified position does not have an underlying
+	 *             viewport layer
+	 * @since 2.7
+	 */
+	public List<CellDifference> compareScrollableRows(Position position, int fromRow, int toRow,
+			Iterator<String[]> expected, int maximumDifferences) {
+		Iterator<String[]> actual = scrollableRows(position, fromRow, toRow, DEFAULT_CHUNK_SIZE);
+		List<CellDifference> differences = new ArrayList<CellDifference>();
+		int row = fromRow;
+		while (differences.size() < maximumDifferences && (actual.hasNext() || expected.hasNext())) {
+			if (!actual.hasNext()) {
+				differences.add(new CellDifference(row, -1, Arrays.toString(expected.next()), null));
+			} else if (!expected.hasNext()) {
+				differences.add(new CellDifference(row, -1, null, Arrays.toString(actual.next())));
+			} else {
+				String[] expectedRow = expected.next();
+				String[] actualRow = actual.next();
+				for (int column = 0; column < Math.max(expectedRow.length, actualRow.length)
+						&& differences.size() < maximumDifferences; column++) {
+					String expectedValue = column < expectedRow.length ? expectedRow[column] : null;
+					String actualValue = column < actualRow.length ? actualRow[column] : null;
+					if (expectedValue == null ? actualValue != null : !expectedValue.equals(actualValue)) {
+						differences.add(new CellDifference(row, column, expectedValue, actualValue));
+					}
+				}
+			}
+			row++;
+		}
+		return differences;
+	}
+
+	/**
+	 * Reads the rows of a layer in chunks, on the UI thread.
+	 */
+	private class RowIterator implements Iterator<String[]> {
+		private final ILayer layer;
+		private final int toRow;
+		private final int chunkSize;
+		private List<String[]> chunk = Collections.emptyList();
+		private int chunkIndex;
+		private int nextRow;
+		private boolean done;
+
+		RowIterator(ILayer layer, int fromRow, int toRow, int chunkSize) {
+			this.layer = layer;
+			this.nextRow = fromRow;
+			this.toRow = toRow;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (chunkIndex < chunk.size()) {
+				return true;
+			}
+			if (!done) {
+				chunk = readChunk();
+				chunkIndex = 0;
+				done = chunk.size() < chunkSize;
+			}
+			return chunkIndex < chunk.size();
+		}
+
+		@Override
+		public String[] next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return chunk.get(chunkIndex++);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private List<String[]> readChunk() {
+			return syncExec(new ListResult<String[]>() {
+				@Override
+				public List<String[]> run() {
+					int end = layer.getRowCount();
+					if (toRow >= 0) {
+						end = Math.min(end, toRow);
+					}
+					end = Math.min(end, nextRow + chunkSize);
+					int columnCount = layer.getColumnCount();
+					List<String[]> rows = new ArrayList<String[]>(Math.max(end - nextRow, 0));
+					for (; nextRow < end; nextRow++) {
+						String[] row = new String[columnCount];
+						for (int column = 0; column < columnCount; column++) {
+							Object value = layer.getDataValueByPosition(column, nextRow);
+							row[column] = value != null ? value.toString() : "";
+						}
+						rows.add(row);
+					}
+					return rows;
+				}
+			});
+		}
+	}
+
 	/**
 	 * Scrolls the viewport found at the specified NatTable position so that the
 	 * row header cell is made visible.
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.anyOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withId;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ControlFinder#findControls(Widget, Matcher, boolean)} on a whole shell, as done by every
+ * <code>bot.button(...)</code> style lookup. The matchers look for the last button of the shell.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FinderBenchmark {
+
+	/** The number of levels of composites. */
+	@Param({ "3", "5" })
+	public int				depth;
+
+	/** The number of child composites of each composite. */
+	@Param({ "4" })
+	public int				breadth;
+
+	/** If the finder matches against a snapshot of the shell. */
+	@Param({ "false", "true" })
+	public boolean			snapshot;
+
+	private SyntheticShell	shell;
+	private ControlFinder	finder;
+	private Matcher<Button>	ofType;
+	private Matcher<Button>	withText;
+	private Matcher<Button>	withId;
+	private Matcher<Button>	allOf;
+	private Matcher<Button>	anyOf;
+
+	@Setup
+	public void openShell() throws InterruptedException {
+		shell = new SyntheticShell(depth, breadth).open();
+		finder = new ControlFinder();
+		finder.shouldUseSnapshot = snapshot;
+		int last = shell.leaves() - 1;
+		ofType = widgetOfType(Button.class);
+		withText = withText("button " + last); //$NON-NLS-1$
+		withId = withId("button " + last); //$NON-NLS-1$
+		allOf = allOf(widgetOfType(Button.class), withText);
+		Matcher<Button> withLabelText = withText("label " + last); //$NON-NLS-1$
+		anyOf = anyOf(withLabelText, withText);
+	}
+
+	@TearDown
+	public void closeShell() throws InterruptedException {
+		shell.close();
+	}
+
+	@Benchmark
+	public List<Button> findByType() {
+		return finder.findControls(shell.shell(), ofType, true);
+	}
+
+	@Benchmark
+	public List<Button> findByText() {
+		return finder.findControls(shell.shell(), withText, true);
+	}
+
+	@Benchmark
+	public List<Button> findById() {
+		return finder.findControls(shell.shell(), withId, true);
+	}
+
+	@Benchmark
+	public List<Button> findAllOf() {
+		return finder.findControls(shell.shell(), allOf, true);
+	}
+
+	@Benchmark
+	public List<Button> findAnyOf() {
+		return finder.findControls(shell.shell(), anyOf, true);
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.anyOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withId;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the matchers alone: each operation matches every widget of the shell in a single trip to the UI thread,
+ * so that the cost of the trip is shared by all the widgets.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatcherBenchmark {
+
+	/** The number of levels of composites. */
+	@Param({ "3", "5" })
+	public int				depth;
+
+	/** The number of child composites of each composite. */
+	@Param({ "4" })
+	public int				breadth;
+
+	private SyntheticShell	shell;
+	private List<Widget>	widgets;
+	private Matcher<Button>	withText;
+	private Matcher<Button>	withId;
+	private Matcher<Button>	allOf;
+	private Matcher<Button>	anyOf;
+
+	@Setup
+	public void openShell() throws InterruptedException {
+		shell = new SyntheticShell(depth, breadth).open();
+		widgets = shell.widgets();
+		int last = shell.leaves() - 1;
+		withText = withText("button " + last); //$NON-NLS-1$
+		withId = withId("button " + last); //$NON-NLS-1$
+		allOf = allOf(widgetOfType(Button.class), withText);
+		Matcher<Button> withLabelText = withText("label " + last); //$NON-NLS-1$
+		anyOf = anyOf(withLabelText, withText);
+	}
+
+	@TearDown
+	public void closeShell() throws InterruptedException {
+		shell.close();
+	}
+
+	@Benchmark
+	public int matchText() {
+		return matches(withText);
+	}
+
+	@Benchmark
+	public int matchId() {
+		return matches(withId);
+	}
+
+	@Benchmark
+	public int matchAllOf() {
+		return matches(allOf);
+	}
+
+	@Benchmark
+	public int matchAnyOf() {
+		return matches(anyOf);
+	}
+
+	private int matches(final Matcher<?> matcher) {
+		return UIThreadRunnable.syncExec(shell.display(), new IntResult() {
+			@Override
+			public Integer run() {
+				int matches = 0;
+				for (int i = 0; i < widgets.size(); i++)
+					if (matcher.matches(widgets.get(i)))
+						matches++;
+				return matches;
+			}
+		});
+	}
+}
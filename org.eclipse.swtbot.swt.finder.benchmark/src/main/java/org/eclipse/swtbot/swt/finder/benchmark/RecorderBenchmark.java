@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.generator.framework.AnnotationRule;
+import org.eclipse.swtbot.generator.framework.GenerationComplexRule;
+import org.eclipse.swtbot.generator.framework.GenerationRuleRegistry;
+import org.eclipse.swtbot.generator.framework.GenerationSimpleRule;
+import org.eclipse.swtbot.generator.framework.Generator;
+import org.eclipse.swtbot.generator.framework.rules.complex.ModifyComboComplexRule;
+import org.eclipse.swtbot.generator.framework.rules.complex.ModifyStyledTextComplexRule;
+import org.eclipse.swtbot.generator.framework.rules.complex.ModifyTextComplexRule;
+import org.eclipse.swtbot.generator.framework.rules.complex.ToolBarMenuComplexRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.CComboSelectionRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.CTabItemActivateRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.CheckboxClickedRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ComboSelectionRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ComboTextModifyRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ContextMenuRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.DoubleClickTreeItemRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ExpandTreeItemRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ModifyStyledTextRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ModifyTextRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.PressShortCutRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.PushButtonClickedRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.RadioButtonClickedRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.SelectListItemRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.SelectTreeItemRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ShellMenuClickedRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.TabItemActivateRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ToolBarDropDownRule;
+import org.eclipse.swtbot.generator.framework.rules.simple.ToolBarItemClickedRule;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures matching the simple rules of the test recorder against a recorded event trace, by creating all the rules
+ * for each event as the recorder used to, and by looking up the rules in a {@link GenerationRuleRegistry}.
+ * <p>
+ * The trace is dominated by mouse moves, paints and key strokes, with a text modification and a button selection
+ * per leaf of the shell. The rules are those of the SWTBot generator, without the rules contributed by other
+ * plug-ins, so creating all the rules costs less here than in the recorder.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecorderBenchmark {
+
+	private SyntheticShell			shell;
+	private final List<Event>		trace	= new ArrayList<Event>();
+	private Generator				generator;
+	private GenerationRuleRegistry	registry;
+
+	@Setup
+	public void openShell() throws InterruptedException {
+		shell = new SyntheticShell(2, 4).open();
+		generator = new BuiltInRules();
+		registry = new GenerationRuleRegistry(generator);
+		UIThreadRunnable.syncExec(shell.display(), new VoidResult() {
+			@Override
+			public void run() {
+				for (int leaf = 0; leaf < shell.leaves(); leaf++)
+					record(shell.button(leaf));
+			}
+		});
+	}
+
+	private void record(Button button) {
+		Text text = (Text) button.getParent().getChildren()[1];
+		for (int i = 0; i < 20; i++)
+			trace.add(event(SWT.MouseMove, text));
+		for (int i = 0; i < 10; i++)
+			trace.add(event(SWT.Paint, button.getParent()));
+		for (int i = 0; i < 5; i++) {
+			trace.add(event(SWT.KeyDown, text));
+			trace.add(event(SWT.KeyUp, text));
+		}
+		trace.add(event(SWT.Modify, text));
+		trace.add(event(SWT.MouseEnter, button));
+		trace.add(event(SWT.MouseDown, button));
+		trace.add(event(SWT.MouseUp, button));
+		trace.add(event(SWT.Selection, button));
+		trace.add(event(SWT.MouseExit, button));
+	}
+
+	private Event event(int type, Widget widget) {
+		Event event = new Event();
+		event.type = type;
+		event.widget = widget;
+		event.display = widget.getDisplay();
+		event.character = 'a';
+		return event;
+	}
+
+	@TearDown
+	public void closeShell() throws InterruptedException {
+		shell.close();
+	}
+
+	@Benchmark
+	public int createAllRulesPerEvent() {
+		return UIThreadRunnable.syncExec(shell.display(), new IntResult() {
+			@Override
+			public Integer run() {
+				int applied = 0;
+				for (int i = 0; i < trace.size(); i++) {
+					Event event = trace.get(i);
+					for (GenerationSimpleRule rule : generator.createSimpleRules()) {
+						if (rule.appliesTo(event)) {
+							rule.initializeForEvent(event);
+							applied++;
+						}
+					}
+				}
+				return applied;
+			}
+		});
+	}
+
+	@Benchmark
+	public int lookUpRulesPerEvent() {
+		return UIThreadRunnable.syncExec(shell.display(), new IntResult() {
+			@Override
+			public Integer run() {
+				int applied = 0;
+				for (int i = 0; i < trace.size(); i++)
+					applied += registry.createSimpleRules(trace.get(i)).size();
+				return applied;
+			}
+		});
+	}
+
+	/**
+	 * The rules of the SWTBot generator, without the extension registry.
+	 */
+	private static class BuiltInRules implements Generator {
+		@Override
+		public List<GenerationSimpleRule> createSimpleRules() {
+			List<GenerationSimpleRule> rules = new ArrayList<GenerationSimpleRule>();
+			rules.add(new PushButtonClickedRule());
+			rules.add(new CheckboxClickedRule());
+			rules.add(new RadioButtonClickedRule());
+			rules.add(new ComboSelectionRule());
+			rules.add(new CComboSelectionRule());
+			rules.add(new ExpandTreeItemRule());
+			rules.add(new DoubleClickTreeItemRule());
+			rules.add(new ShellMenuClickedRule());
+			rules.add(new SelectTreeItemRule());
+			rules.add(new ModifyTextRule());
+			rules.add(new ModifyStyledTextRule());
+			rules.add(new ComboTextModifyRule());
+			rules.add(new ContextMenuRule());
+			rules.add(new ToolBarDropDownRule());
+			rules.add(new ToolBarItemClickedRule());
+			rules.add(new SelectListItemRule());
+			rules.add(new CTabItemActivateRule());
+			rules.add(new TabItemActivateRule());
+			rules.add(new PressShortCutRule());
+			return rules;
+		}
+
+		@Override
+		public List<GenerationComplexRule> createComplexRules() {
+			List<GenerationComplexRule> rules = new ArrayList<GenerationComplexRule>();
+			rules.add(new ToolBarMenuComplexRule());
+			rules.add(new ModifyTextComplexRule());
+			rules.add(new ModifyStyledTextComplexRule());
+			rules.add(new ModifyComboComplexRule());
+			return rules;
+		}
+
+		@Override
+		public List<AnnotationRule> createAnnotationRules() {
+			return new ArrayList<AnnotationRule>();
+		}
+
+		@Override
+		public String getLabel() {
+			return "SWTBot"; //$NON-NLS-1$
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+	}
+}
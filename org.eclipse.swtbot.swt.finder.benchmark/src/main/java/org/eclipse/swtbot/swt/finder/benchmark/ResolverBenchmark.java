@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IResolvable;
+import org.eclipse.swtbot.swt.finder.resolvers.Resolver;
+import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of resolvers by class, and the resolution of the children of every widget of a shell in a
+ * single trip to the UI thread.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResolverBenchmark {
+
+	/** The number of levels of composites. */
+	@Param({ "3", "5" })
+	public int						depth;
+
+	/** The number of child composites of each composite. */
+	@Param({ "4" })
+	public int						breadth;
+
+	private SyntheticShell			shell;
+	private List<Widget>			widgets;
+	private DefaultChildrenResolver	childrenResolver;
+	private Resolver				resolver;
+
+	@Setup
+	public void openShell() throws InterruptedException {
+		shell = new SyntheticShell(depth, breadth).open();
+		widgets = shell.widgets();
+		childrenResolver = new DefaultChildrenResolver();
+		resolver = childrenResolver.getResolver();
+	}
+
+	@TearDown
+	public void closeShell() throws InterruptedException {
+		shell.close();
+	}
+
+	@Benchmark
+	public List<IResolvable> getResolversOfComposite() {
+		return resolver.getResolvers(Composite.class);
+	}
+
+	@Benchmark
+	public List<IResolvable> getResolversOfButton() {
+		return resolver.getResolvers(Button.class);
+	}
+
+	@Benchmark
+	public int getChildren() {
+		return UIThreadRunnable.syncExec(shell.display(), new IntResult() {
+			@Override
+			public Integer run() {
+				int children = 0;
+				for (int i = 0; i < widgets.size(); i++)
+					children += childrenResolver.getChildren(widgets.get(i)).size();
+				return children;
+			}
+		});
+	}
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.layout.RowLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+
+/**
+ * A shell with a configurable number of widgets, running its own UI thread.
+ * <p>
+ * The shell holds a tree of composites <code>depth</code> levels deep, each composite having <code>breadth</code>
+ * child composites. Each of the <code>breadth^depth</code> leaf composites holds a label, a text and a push button.
+ * The widgets of leaf <code>i</code> have the texts <code>label i</code>, <code>text i</code> and
+ * <code>button i</code>, and the button has the id <code>button i</code>.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class SyntheticShell {
+
+	private final int			depth;
+	private final int			breadth;
+	private final List<Widget>	widgets	= new ArrayList<Widget>();
+	private final List<Button>	buttons	= new ArrayList<Button>();
+	private Display				display;
+	private Shell				shell;
+	private Thread				uiThread;
+	private boolean				started;
+
+	/**
+	 * Creates a shell with the given size. The shell is created by {@link #open()}.
+	 *
+	 * @param depth the number of levels of composites.
+	 * @param breadth the number of child composites of each composite.
+	 */
+	public SyntheticShell(int depth, int breadth) {
+		this.depth = depth;
+		this.breadth = breadth;
+	}
+
+	/**
+	 * Starts a UI thread, opens the shell in it and waits until the event loop is running.
+	 *
+	 * @return this shell.
+	 * @throws InterruptedException if interrupted while waiting for the shell.
+	 */
+	public SyntheticShell open() throws InterruptedException {
+		final CountDownLatch opened = new CountDownLatch(1);
+		uiThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					display = new Display();
+					shell = new Shell(display);
+					shell.setText("SWTBot benchmark"); //$NON-NLS-1$
+					shell.setLayout(new FillLayout());
+					widgets.add(shell);
+					createComposites(shell, 0);
+					shell.setSize(800, 600);
+					shell.open();
+					started = true;
+				} finally {
+					opened.countDown();
+				}
+				while (!display.isDisposed())
+					if (!display.readAndDispatch())
+						display.sleep();
+			}
+		}, "SWTBot benchmark UI thread"); //$NON-NLS-1$
+		uiThread.start();
+		opened.await();
+		if (!started)
+			throw new IllegalStateException("Could not open the shell, is there a display?"); //$NON-NLS-1$
+		return this;
+	}
+
+	private void createComposites(Composite parent, int level) {
+		Composite composite = new Composite(parent, SWT.NONE);
+		widgets.add(composite);
+		if (level == depth) {
+			composite.setLayout(new RowLayout());
+			int leaf = buttons.size();
+			Label label = new Label(composite, SWT.NONE);
+			label.setText("label " + leaf); //$NON-NLS-1$
+			Text text = new Text(composite, SWT.BORDER);
+			text.setText("text " + leaf); //$NON-NLS-1$
+			Button button = new Button(composite, SWT.PUSH);
+			button.setText("button " + leaf); //$NON-NLS-1$
+			button.setData(SWTBotPreferences.DEFAULT_KEY, "button " + leaf); //$NON-NLS-1$
+			widgets.add(label);
+			widgets.add(text);
+			widgets.add(button);
+			buttons.add(button);
+			return;
+		}
+		composite.setLayout(new FillLayout());
+		for (int i = 0; i < breadth; i++)
+			createComposites(composite, level + 1);
+	}
+
+	/**
+	 * Disposes the display and waits for the UI thread to end.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the UI thread.
+	 */
+	public void close() throws InterruptedException {
+		if ((display != null) && !display.isDisposed())
+			UIThreadRunnable.syncExec(display, new VoidResult() {
+				@Override
+				public void run() {
+					display.dispose();
+				}
+			});
+		uiThread.join();
+	}
+
+	/**
+	 * @return the display of the UI thread.
+	 */
+	public Display display() {
+		return display;
+	}
+
+	/**
+	 * @return the shell.
+	 */
+	public Shell shell() {
+		return shell;
+	}
+
+	/**
+	 * @return all the widgets in the shell, including the shell, in the order in which a finder visits them.
+	 */
+	public List<Widget> widgets() {
+		return widgets;
+	}
+
+	/**
+	 * @return the number of leaf composites.
+	 */
+	public int leaves() {
+		return buttons.size();
+	}
+
+	/**
+	 * @param leaf the index of the leaf composite.
+	 * @return the push button of the leaf.
+	 */
+	public Button button(int leaf) {
+		return buttons.get(leaf);
+	}
+}
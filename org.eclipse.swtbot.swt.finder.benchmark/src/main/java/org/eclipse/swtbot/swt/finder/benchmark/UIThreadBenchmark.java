@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.StringResult;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBot;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotButton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the trips to the UI thread made by {@link UIThreadRunnable}, and the events sent by
+ * {@link AbstractSWTBot} to click a button.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UIThreadBenchmark {
+
+	private static final VoidResult	NOTHING	= new VoidResult() {
+		@Override
+		public void run() {
+		}
+	};
+
+	private SyntheticShell			shell;
+	private SWTBotButton			button;
+	private long					playbackDelay;
+
+	@Setup
+	public void openShell() throws InterruptedException {
+		shell = new SyntheticShell(0, 1).open();
+		button = new SWTBotButton(shell.button(0));
+		playbackDelay = SWTBotPreferences.PLAYBACK_DELAY;
+		SWTBotPreferences.PLAYBACK_DELAY = 0;
+	}
+
+	@TearDown
+	public void closeShell() throws InterruptedException {
+		SWTBotPreferences.PLAYBACK_DELAY = playbackDelay;
+		shell.close();
+	}
+
+	@Benchmark
+	public void syncExec() {
+		UIThreadRunnable.syncExec(shell.display(), NOTHING);
+	}
+
+	@Benchmark
+	public String syncExecResult() {
+		return UIThreadRunnable.syncExec(shell.display(), new StringResult() {
+			@Override
+			public String run() {
+				return shell.button(0).getText();
+			}
+		});
+	}
+
+	/**
+	 * Ten asynchronous runnables followed by a single synchronous one, the way event sequences are posted.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(10)
+	public void asyncExecThenSyncExec() {
+		for (int i = 0; i < 10; i++)
+			UIThreadRunnable.asyncExec(shell.display(), NOTHING);
+		UIThreadRunnable.syncExec(shell.display(), NOTHING);
+	}
+
+	@Benchmark
+	public SWTBotButton click() {
+		return button.click();
+	}
+}
@@ -13,6 +13,8 @@ package org.eclipse.swtbot.swt.finder.finders;
 import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.assertText;
 import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.pass;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.List;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.test.AbstractMenuExampleTest;
 import org.junit.Test;
 
@@ -49,4 +52,19 @@ public class MenuFinderTest extends AbstractMenuExampleTest {
 		assertText("&Find...\tCtrl+F", findControls.get(21));
 	}
 
+	@Test
+	public void findsMenuItemByTextPath() throws Exception {
+		MenuItem menuItem = menuFinder.findMenuItem(shell, "File", "New Contact...");
+		assertText("&New Contact...	Ctrl+N", menuItem);
+		assertSame(menuItem, menuFinder.findMenuItem(shell, "&File", "&New Contact...\tCtrl+N"));
+		assertSame(menuItem, menuFinder.findMenuItem(shell, SWTUtils.getTextPath(menuItem)));
+	}
+
+	@Test
+	public void findsNoMenuItemForMissingTextPath() throws Exception {
+		assertNull(menuFinder.findMenuItem(shell, "File", "Does not exist"));
+		assertNull(menuFinder.findMenuItem(shell, "File", "New Contact...", "Does not exist"));
+		assertNull(menuFinder.findMenuItem(shell));
+	}
+
 }
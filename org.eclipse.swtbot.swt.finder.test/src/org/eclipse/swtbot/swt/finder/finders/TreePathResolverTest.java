@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swtbot.swt.finder.results.BoolResult;
+import org.eclipse.swtbot.swt.finder.results.StringResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotTreeItem;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class TreePathResolverTest extends AbstractSWTShellTest {
+
+	private Tree	tree;
+	private int		mouseDowns;
+
+	@Test
+	public void expandsNodePathInVirtualTree() throws Exception {
+		SWTBotTreeItem item = bot.tree().expandNode("Node 500", "Node 500.3", "Node 500.3.1");
+
+		assertEquals("Node 500.3.1", item.getText());
+		assertTrue(isExpanded("Node 500"));
+		assertTrue(isExpanded("Node 500", "Node 500.3"));
+	}
+
+	@Test
+	public void waitsForLazilyPopulatedNodes() throws Exception {
+		SWTBotTreeItem item = bot.tree().expandNode("Node 7", "Node 7.7", "Node 7.7.2");
+
+		assertEquals("Node 7.7.2", item.getText());
+	}
+
+	@Test
+	public void notifiesEachExpandedNode() throws Exception {
+		bot.tree().expandNode("Node 500", "Node 500.3", "Node 500.3.1");
+
+		assertEquals(3, mouseDowns);
+	}
+
+	@Test
+	public void stopsAtCollapsedNodes() throws Exception {
+		final TreePathResolver[] resolver = new TreePathResolver[1];
+		BoolResult resolve = new BoolResult() {
+			@Override
+			public Boolean run() {
+				if (resolver[0] == null)
+					resolver[0] = new TreePathResolver(tree, "Node 1", "Node 1.2", "Missing");
+				return resolver[0].resolve();
+			}
+		};
+
+		assertFalse(UIThreadRunnable.syncExec(resolve));
+		assertEquals("Node 1", UIThreadRunnable.syncExec(new StringResult() {
+			@Override
+			public String run() {
+				return resolver[0].getCollapsedNode().getText();
+			}
+		}));
+		while (resolver[0].getCollapsedNode() != null) {
+			new SWTBotTreeItem(resolver[0].getCollapsedNode()).expand();
+			assertFalse(UIThreadRunnable.syncExec(resolve));
+		}
+
+		assertNull(resolver[0].getItem());
+		assertEquals("Missing", resolver[0].getMissingNode());
+		assertTrue(isExpanded("Node 1", "Node 1.2"));
+	}
+
+	private boolean isExpanded(final String... path) {
+		return UIThreadRunnable.syncExec(new BoolResult() {
+			@Override
+			public Boolean run() {
+				TreeItem item = TreePathResolver.findItem(tree, path[0]);
+				for (int i = 1; i < path.length; i++)
+					item = TreePathResolver.findItem(item, path[i]);
+				return item.getExpanded();
+			}
+		});
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		tree = new Tree(parent, SWT.VIRTUAL | SWT.BORDER);
+		tree.addListener(SWT.SetData, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				TreeItem item = (TreeItem) event.item;
+				TreeItem parentItem = item.getParentItem();
+				if (parentItem == null) {
+					item.setText("Node " + tree.indexOf(item));
+					item.setItemCount(10);
+				} else {
+					item.setText(parentItem.getText() + "." + parentItem.indexOf(item));
+					item.setItemCount(parentItem.getParentItem() == null && !item.getText().equals("Node 7.7") ? 10 : 0);
+				}
+			}
+		});
+		tree.addListener(SWT.Expand, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				final TreeItem item = (TreeItem) event.item;
+				if (item.getText().equals("Node 7.7") && (item.getItemCount() == 0)) {
+					// populated later, like a deferred content provider
+					item.getDisplay().timerExec(500, new Runnable() {
+						@Override
+						public void run() {
+							item.setItemCount(3);
+						}
+					});
+				}
+			}
+		});
+		tree.addListener(SWT.MouseDown, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				mouseDowns++;
+			}
+		});
+		tree.setItemCount(1000);
+	}
+
+}
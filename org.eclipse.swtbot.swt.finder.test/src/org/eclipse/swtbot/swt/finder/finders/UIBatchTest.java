@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.eclipse.swtbot.swt.finder.results.StringResult;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class UIBatchTest extends AbstractSWTShellTest {
+
+	private Text	text;
+
+	@Test
+	public void executesAllOperationsInOneTrip() throws Exception {
+		final Thread[] threads = new Thread[2];
+		UIBatch batch = new UIBatch(display);
+		Future<Void> set = batch.add(new VoidResult() {
+			@Override
+			public void run() {
+				threads[0] = Thread.currentThread();
+				text.setText("batched");
+			}
+		});
+		Future<String> get = batch.add(new StringResult() {
+			@Override
+			public String run() {
+				threads[1] = Thread.currentThread();
+				return text.getText();
+			}
+		});
+		assertEquals(2, batch.size());
+		assertFalse(get.isDone());
+
+		batch.execute();
+
+		assertTrue(set.isDone());
+		assertEquals("batched", get.get());
+		assertSame(display.getThread(), threads[0]);
+		assertSame(display.getThread(), threads[1]);
+		assertEquals(0, batch.size());
+	}
+
+	@Test
+	public void failingOperationDoesNotStopTheBatch() throws Exception {
+		UIBatch batch = new UIBatch(display);
+		Future<Integer> failing = batch.add(new IntResult() {
+			@Override
+			public Integer run() {
+				throw new IllegalStateException("expected");
+			}
+		});
+		Future<Integer> length = batch.add(new IntResult() {
+			@Override
+			public Integer run() {
+				return text.getText().length();
+			}
+		});
+		batch.execute();
+
+		assertEquals(Integer.valueOf(0), length.get());
+		try {
+			failing.get();
+			fail("Expected an execution exception");
+		} catch (ExecutionException e) {
+			assertEquals("expected", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void cancelledOperationIsNotExecuted() throws Exception {
+		UIBatch batch = new UIBatch(display);
+		Future<Void> set = batch.add(new VoidResult() {
+			@Override
+			public void run() {
+				text.setText("cancelled");
+			}
+		});
+		Future<String> get = batch.add(new StringResult() {
+			@Override
+			public String run() {
+				return text.getText();
+			}
+		});
+		assertTrue(set.cancel(false));
+		batch.execute();
+
+		assertTrue(set.isCancelled());
+		assertEquals("", get.get());
+		try {
+			set.get();
+			fail("Expected a cancellation exception");
+		} catch (CancellationException expected) {
+			// not executed
+		}
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		text = new Text(parent, SWT.SINGLE);
+	}
+}
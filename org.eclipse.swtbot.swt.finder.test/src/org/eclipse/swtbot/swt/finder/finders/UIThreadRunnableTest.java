@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.RowLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotShell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class UIThreadRunnableTest extends AbstractSWTShellTest {
+
+	private Label	label;
+	private boolean	drainEvents;
+
+	@Before
+	public void setUp() throws Exception {
+		drainEvents = SWTBotPreferences.DRAIN_EVENTS;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SWTBotPreferences.DRAIN_EVENTS = drainEvents;
+	}
+
+	@Test
+	public void drainsNestedAsyncRunnables() throws Exception {
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				setTextLater("nested", 2);
+			}
+		});
+
+		UIThreadRunnable.drainEvents(display, 5000);
+
+		assertEquals("nested", bot.label(0).getText());
+	}
+
+	@Test
+	public void actionsReturnOnceTheDisplayIsIdle() throws Exception {
+		SWTBotPreferences.DRAIN_EVENTS = true;
+
+		bot.button("Update").click();
+
+		assertEquals("updated", bot.label(0).getText());
+	}
+
+	@Test
+	public void actionsReturnWhenAListenerOpensAModalShell() throws Exception {
+		SWTBotPreferences.DRAIN_EVENTS = true;
+
+		bot.button("Open").click();
+
+		SWTBotShell modal = bot.shell("Modal");
+		assertTrue(modal.isOpen());
+		modal.close();
+	}
+
+	private void setTextLater(final String text, final int depth) {
+		display.asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				if (depth > 0)
+					setTextLater(text, depth - 1);
+				else
+					label.setText(text);
+			}
+		});
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		parent.setLayout(new RowLayout());
+		label = new Label(parent, SWT.NONE);
+		label.setText("initial");
+		Button button = new Button(parent, SWT.PUSH);
+		button.setText("Update");
+		button.addListener(SWT.Selection, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				setTextLater("updated", 1);
+			}
+		});
+		Button open = new Button(parent, SWT.PUSH);
+		open.setText("Open");
+		open.addListener(SWT.Selection, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				display.asyncExec(new Runnable() {
+					@Override
+					public void run() {
+						Shell modal = new Shell(shell, SWT.APPLICATION_MODAL | SWT.DIALOG_TRIM);
+						modal.setText("Modal");
+						modal.open();
+						while (!modal.isDisposed()) {
+							if (!display.readAndDispatch())
+								display.sleep();
+						}
+					}
+				});
+			}
+		});
+	}
+}
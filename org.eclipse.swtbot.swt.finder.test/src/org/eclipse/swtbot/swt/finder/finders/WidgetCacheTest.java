@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class WidgetCacheTest extends AbstractSWTShellTest {
+
+	private Button			button;
+	private boolean			widgetCache;
+	private WidgetCache		cache;
+	private Matcher<Widget>	withOk;
+
+	@Before
+	public void setUp() throws Exception {
+		widgetCache = SWTBotPreferences.WIDGET_CACHE;
+		cache = new WidgetCache(bot.getFinder());
+		withOk = withText("OK");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SWTBotPreferences.WIDGET_CACHE = widgetCache;
+	}
+
+	@Test
+	public void botReturnsCachedControl() throws Exception {
+		SWTBotPreferences.WIDGET_CACHE = true;
+		bot.getWidgetCache().clear();
+
+		assertSame(button, bot.button("OK").widget);
+		assertEquals(1, bot.getWidgetCache().size());
+		assertSame(button, bot.button("OK").widget);
+		assertEquals(1, bot.getWidgetCache().size());
+	}
+
+	@Test
+	public void dropsDisposedControls() throws Exception {
+		cache.put(withOk, shell, 0, button);
+		assertSame(button, cache.get(withOk, shell, 0));
+
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				button.dispose();
+			}
+		});
+
+		assertEquals(0, cache.size());
+		assertNull(cache.get(withOk, shell, 0));
+	}
+
+	@Test
+	public void dropsHiddenControls() throws Exception {
+		cache.put(withOk, shell, 0, button);
+
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				button.setVisible(false);
+			}
+		});
+
+		assertEquals(0, cache.size());
+		assertNull(cache.get(withOk, shell, 0));
+	}
+
+	@Test
+	public void dropsControlsThatNoLongerMatch() throws Exception {
+		cache.put(withOk, shell, 0, button);
+
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				button.setText("Cancel");
+			}
+		});
+
+		assertNull(cache.get(withOk, shell, 0));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void cachesControlsByParentAndIndex() throws Exception {
+		cache.put(withOk, button, 0, button);
+		cache.put(withOk, shell, 1, button);
+
+		assertNull(cache.get(withOk, shell, 0));
+		assertNull(cache.get(withOk, button, 1));
+		assertSame(button, cache.get(withOk, button, 0));
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		button = new Button(parent, SWT.PUSH);
+		button.setText("OK");
+	}
+}
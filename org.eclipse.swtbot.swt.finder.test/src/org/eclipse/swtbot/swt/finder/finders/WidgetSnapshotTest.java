@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.assertText;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withStyle;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.hamcrest.Matchers.allOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsAnything;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class WidgetSnapshotTest extends AbstractControlExampleTest {
+
+	@Test
+	public void findsSameControlsAsLiveSearch() throws Exception {
+		Matcher<Button> withText = withText("One");
+		Matcher<Button> matcher = allOf(widgetOfType(Button.class), withText);
+		List<Button> live = controlFinder.findControls(matcher);
+
+		controlFinder.shouldUseSnapshot = true;
+		List<Button> snapshot = controlFinder.findControls(matcher);
+
+		assertEquals(2, snapshot.size());
+		assertEquals(live, snapshot);
+		assertText("One", snapshot.get(0));
+	}
+
+	@Test
+	public void findsControlsInDocumentOrder() throws Exception {
+		List<Group> live = controlFinder.findControls(widgetOfType(Group.class));
+
+		controlFinder.shouldUseSnapshot = true;
+		List<Group> snapshot = controlFinder.findControls(widgetOfType(Group.class));
+
+		assertEquals(12, snapshot.size());
+		assertEquals(live, snapshot);
+	}
+
+	@Test
+	public void matchesStyleFromSnapshot() throws Exception {
+		Matcher<Button> matcher = allOf(widgetOfType(Button.class), withStyle(SWT.PUSH, "SWT.PUSH"));
+		List<Button> live = controlFinder.findControls(matcher);
+
+		controlFinder.shouldUseSnapshot = true;
+		assertEquals(live, controlFinder.findControls(matcher));
+	}
+
+	@Test
+	public void capturesWidgetTree() throws Exception {
+		WidgetSnapshot snapshot = controlFinder.snapshot(shell, true);
+		List<Widget> all = controlFinder.findControls(shell, new IsAnything<Widget>(), true);
+
+		assertEquals(all.size(), snapshot.size());
+		assertSame(shell, snapshot.widget(0));
+		assertEquals(-1, snapshot.parent(0));
+		assertEquals(0, snapshot.indexOf(shell));
+		assertEquals(SWTUtils.getText(shell), snapshot.invokeMethod(shell, "getText"));
+		assertSame(WidgetSnapshot.NOT_CAPTURED, snapshot.invokeMethod(shell, "getBounds"));
+		assertNull(WidgetSnapshot.current());
+	}
+
+	@Test
+	public void convertsCapturedTextLikeLiveInvocation() throws Exception {
+		final Canvas canvas = UIThreadRunnable.syncExec(new Result<Canvas>() {
+			@Override
+			public Canvas run() {
+				return new Canvas(shell, SWT.NONE) {
+					@SuppressWarnings("unused")
+					public String getText() {
+						return null;
+					}
+				};
+			}
+		});
+		try {
+			final String[] captured = new String[2];
+			controlFinder.snapshot(shell, true).match(new BaseMatcher<Widget>() {
+				@Override
+				public boolean matches(Object item) {
+					if (item == canvas) {
+						captured[0] = SWTUtils.getText(item);
+						captured[1] = SWTUtils.getToolTipText(item);
+					}
+					return false;
+				}
+
+				@Override
+				public void describeTo(Description description) {
+					description.appendText("records the captured text");
+				}
+			});
+
+			assertEquals(SWTUtils.getText(canvas), captured[0]);
+			assertEquals(SWTUtils.getToolTipText(canvas), captured[1]);
+			assertEquals("", captured[0]);
+			assertEquals("", captured[1]);
+		} finally {
+			UIThreadRunnable.syncExec(new VoidResult() {
+				@Override
+				public void run() {
+					canvas.dispose();
+				}
+			});
+		}
+	}
+
+	@Before
+	public void prepareExample() throws Exception {
+		bot.tabItem("Button").activate();
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class InstrumentationTest extends AbstractSWTShellTest {
+
+	private OperationStatistics	statistics;
+
+	@Test
+	public void reportsFinderAndEventOperations() throws Exception {
+		bot.button("Click").click();
+
+		assertThat(statistics.count(Operation.FIND_CONTROLS), greaterThanOrEqualTo(1L));
+		assertThat(statistics.count(Operation.WAIT_UNTIL), greaterThanOrEqualTo(1L));
+		assertThat(statistics.count(Operation.SYNC_EXEC), greaterThanOrEqualTo(statistics.count(Operation.FIND_CONTROLS)));
+		assertThat(statistics.count(Operation.NOTIFY), greaterThanOrEqualTo(1L));
+	}
+
+	@Test
+	public void stopsReportingOnceListenerIsRemoved() throws Exception {
+		Instrumentation.removeListener(statistics);
+		assertFalse(Instrumentation.isEnabled());
+
+		bot.button("Click").click();
+
+		assertEquals("", statistics.toString());
+	}
+
+	@Before
+	public void addListener() {
+		statistics = new OperationStatistics();
+		Instrumentation.addListener(statistics);
+	}
+
+	@After
+	public void removeListener() {
+		Instrumentation.removeListener(statistics);
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		Button button = new Button(parent, SWT.PUSH);
+		button.setText("Click");
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class OperationStatisticsTest {
+
+	private final OperationStatistics	statistics	= new OperationStatistics();
+
+	@Test
+	public void countsOperations() throws Exception {
+		statistics.completed(Operation.SYNC_EXEC, 1000);
+		statistics.completed(Operation.SYNC_EXEC, 3000);
+		statistics.completed(Operation.NOTIFY, 500);
+
+		assertEquals(2, statistics.count(Operation.SYNC_EXEC));
+		assertEquals(4000, statistics.totalNanos(Operation.SYNC_EXEC));
+		assertEquals(3000, statistics.maxNanos(Operation.SYNC_EXEC));
+		assertEquals(1, statistics.count(Operation.NOTIFY));
+		assertEquals(0, statistics.count(Operation.WAIT_UNTIL));
+	}
+
+	@Test
+	public void approximatesPercentilesWithinAFactorOfTwo() throws Exception {
+		for (int i = 1; i <= 100; i++)
+			statistics.completed(Operation.FIND_CONTROLS, i * 1000000L);
+
+		long median = statistics.percentileNanos(Operation.FIND_CONTROLS, 50);
+		assertTrue(median >= 50000000L);
+		assertTrue(median < 100000000L);
+		assertEquals(100000000L, statistics.percentileNanos(Operation.FIND_CONTROLS, 100));
+		assertEquals(0, statistics.percentileNanos(Operation.NOTIFY, 50));
+	}
+
+	@Test
+	public void summarizesPerformedOperations() throws Exception {
+		statistics.completed(Operation.WAIT_UNTIL, 2500000);
+
+		assertEquals("waitUntil: 1 calls, 2.500 ms total, p50 2.500 ms, p90 2.500 ms, max 2.500 ms\n", statistics.toString());
+	}
+
+	@Test
+	public void resets() throws Exception {
+		statistics.completed(Operation.WAIT_UNTIL, 2500000);
+		statistics.reset();
+
+		assertEquals(0, statistics.count(Operation.WAIT_UNTIL));
+		assertEquals("", statistics.toString());
+	}
+}
@@ -11,6 +11,7 @@
 package org.eclipse.swtbot.swt.finder.keyboard;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.swt.SWT;
@@ -38,6 +39,16 @@ public class KeyboardLayoutTest {
 		assertEquals(keys(SWT.SHIFT, 'Y'), layout.keyStrokeFor('*'));
 	}
 
+	@Test
+	public void cachesKeyboardLayouts() throws Exception {
+		assertSame(KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ"), KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void throwsWhenNoKeystrokeIsAvailable() throws Exception {
+		KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ").keyStrokeFor('\u20ac');
+	}
+
 	@After
 	public void tearDown() {
 		SWTBotPreferences.KEYBOARD_LAYOUT = KeyboardLayoutDetector.detectKeyboard();
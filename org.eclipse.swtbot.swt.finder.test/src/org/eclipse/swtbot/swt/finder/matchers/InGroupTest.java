@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.inGroup;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class InGroupTest extends AbstractSWTShellTest {
+
+	private Button	first;
+	private Button	second;
+	private Button	nested;
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void matchesWidgetsInNestedGroups() throws Exception {
+		List<? extends Widget> inFirst = bot.getFinder().findControls(allOf(widgetOfType(Button.class), inGroup("First")));
+		List<? extends Widget> inSecond = bot.getFinder().findControls(allOf(widgetOfType(Button.class), inGroup("Second")));
+		List<? extends Widget> inNested = bot.getFinder().findControls(allOf(widgetOfType(Button.class), inGroup("Nested")));
+
+		assertEquals(Arrays.asList(first), inFirst);
+		assertEquals(Arrays.asList(second, nested), inSecond);
+		assertEquals(Arrays.asList(nested), inNested);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void checksTheAncestorsAgainInTheNextSearch() throws Exception {
+		Matcher<Widget> matcher = allOf(widgetOfType(Button.class), inGroup("Renamed"));
+		assertEquals(Arrays.asList(), bot.getFinder().findControls(matcher));
+
+		UIThreadRunnable.syncExec(new VoidResult() {
+			public void run() {
+				((Group) first.getParent()).setText("Renamed");
+			}
+		});
+
+		assertEquals(Arrays.asList(first), bot.getFinder().findControls(matcher));
+		assertNull(ControlFinder.currentSearch());
+	}
+
+	@Test
+	public void searchesOnlyTheGroup() throws Exception {
+		assertSame(second, bot.botInGroup("Second").button(0).widget);
+		assertSame(nested, bot.botInGroup("Second").button(1).widget);
+		assertSame(nested, bot.botInGroup("Nested").button(0).widget);
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		parent.setLayout(new FillLayout(SWT.VERTICAL));
+		first = button(group(parent, "First"), "One");
+		Group secondGroup = group(parent, "Second");
+		second = button(secondGroup, "Two");
+		nested = button(group(secondGroup, "Nested"), "Three");
+	}
+
+	private Group group(Composite parent, String text) {
+		Group group = new Group(parent, SWT.NONE);
+		group.setLayout(new FillLayout());
+		group.setText(text);
+		return group;
+	}
+
+	private Button button(Composite parent, String text) {
+		Button button = new Button(parent, SWT.PUSH);
+		button.setText(text);
+		return button;
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.anyOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.inGroup;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withStyle;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class MatcherCompilerTest {
+
+	@Test
+	public void ordersMatchersCheapestFirst() throws Exception {
+		Matcher<Widget> text = withText("OK");
+		Matcher<Widget> group = inGroup("Group");
+		Matcher<Widget> style = withStyle(SWT.PUSH, "SWT.PUSH");
+		Matcher<Button> type = widgetOfType(Button.class);
+		MyMatcher other = new MyMatcher(true);
+
+		List<Matcher<? extends Widget>> matchers = Arrays.<Matcher<? extends Widget>> asList(group, text, other, style, type);
+		List<Matcher<? extends Widget>> compiled = MatcherCompiler.compile(matchers);
+
+		assertEquals(Arrays.<Matcher<? extends Widget>> asList(type, style, text, other, group), compiled);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void keepsDescriptionInGivenOrder() throws Exception {
+		Matcher<Widget> matcher = allOf(withText("OK"), widgetOfType(Button.class));
+		assertEquals("(with text 'OK' and of type 'Button')", StringDescription.toString(matcher));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void computesWidgetTypeOfCombinations() throws Exception {
+		Matcher<Widget> all = allOf(widgetOfType(Control.class), withText("OK"), allOf(widgetOfType(Button.class)));
+		Matcher<Control> any = anyOf(widgetOfType(Button.class), widgetOfType(Label.class));
+
+		assertSame(Button.class, MatcherCompiler.widgetType(all));
+		assertSame(Control.class, MatcherCompiler.widgetType(any));
+		assertNull(MatcherCompiler.widgetType(anyOf(widgetOfType(Button.class), withText("OK"))));
+		assertEquals(CostedMatcher.PROPERTY_COST, MatcherCompiler.cost(all));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void skipsMatchersIfTypeDoesNotMatch() throws Exception {
+		MyMatcher expensive = new MyMatcher(true);
+		Matcher<Widget> matcher = allOf(expensive, widgetOfType(Button.class));
+
+		assertFalse(MatcherCompiler.mayMatch(matcher, "not a widget"));
+		assertFalse(matcher.matches("not a widget"));
+		assertFalse(expensive.matched);
+		assertTrue(MatcherCompiler.mayMatch(expensive, "not a widget"));
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withLabel;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.Finder;
+import org.eclipse.swtbot.swt.finder.finders.MenuFinder;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class WithLabelTest extends AbstractSWTShellTest {
+
+	private Text	name;
+	private Text	other;
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void matchesControlsFollowingTheLabel() throws Exception {
+		CountingFinder finder = new CountingFinder();
+
+		List<? extends Widget> afterName = bot.getFinder().findControls(allOf(widgetOfType(Text.class), withLabel("Name:", finder)));
+		List<? extends Widget> afterOther = bot.getFinder().findControls(allOf(widgetOfType(Text.class), withLabel("Other:", finder)));
+
+		assertEquals(Arrays.asList(name, other), afterName);
+		assertEquals(Arrays.asList(other), afterOther);
+		assertEquals(2, finder.searches);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void dropsTheIndexWhenTheSearchEnds() throws Exception {
+		CountingFinder finder = new CountingFinder();
+		Matcher<Widget> matcher = allOf(widgetOfType(Text.class), withLabel("Other:", finder));
+
+		assertEquals(Arrays.asList(other), bot.getFinder().findControls(matcher));
+		assertEquals(Arrays.asList(other), bot.getFinder().findControls(matcher));
+
+		assertEquals(2, finder.searches);
+		assertNull(ControlFinder.currentSearch());
+	}
+
+	@Test
+	public void findsTextWithLabel() throws Exception {
+		assertEquals(other, bot.textWithLabel("Other:").widget);
+	}
+
+	private static class CountingFinder extends Finder {
+		private int	searches;
+
+		CountingFinder() {
+			super(new ControlFinder(), new MenuFinder());
+		}
+
+		@Override
+		public <T extends Widget> List<T> findControls(Matcher<T> matcher) {
+			searches++;
+			return super.findControls(matcher);
+		}
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		parent.setLayout(new GridLayout(2, false));
+		new Label(parent, SWT.NONE).setText("Name:");
+		name = new Text(parent, SWT.BORDER);
+		new Label(parent, SWT.NONE).setText("Other:");
+		other = new Text(parent, SWT.BORDER);
+	}
+}
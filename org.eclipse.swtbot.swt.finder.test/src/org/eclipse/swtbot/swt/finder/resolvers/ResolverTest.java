@@ -10,7 +10,10 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.resolvers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileInputStream;
@@ -43,4 +46,28 @@ public class ResolverTest {
 		assertFalse(resolvers.isEmpty());
 	}
 
+	@Test
+	public void remembersResolversUntilResolverIsAdded() throws Exception {
+		Resolver resolver = new Resolver();
+		resolver.addResolver(new CompositeResolver());
+
+		List<IResolvable> resolvers = resolver.cachedResolvers(Shell.class);
+		assertSame(resolvers, resolver.cachedResolvers(Shell.class));
+
+		resolver.addResolver(new CompositeResolver());
+		assertNotSame(resolvers, resolver.cachedResolvers(Shell.class));
+		assertEquals(2, resolver.cachedResolvers(Shell.class).size());
+	}
+
+	@Test
+	public void returnsNewListOfResolvers() throws Exception {
+		Resolver resolver = new Resolver();
+		resolver.addResolver(new CompositeResolver());
+
+		List<IResolvable> resolvers = resolver.getResolvers(Shell.class);
+		assertNotSame(resolvers, resolver.getResolvers(Shell.class));
+		resolvers.clear();
+		assertEquals(1, resolver.getResolvers(Shell.class).size());
+	}
+
 }
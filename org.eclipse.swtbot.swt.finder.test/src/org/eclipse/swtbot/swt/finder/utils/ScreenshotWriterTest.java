@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class ScreenshotWriterTest extends AbstractSWTShellTest {
+
+	private File				directory;
+	private ScreenshotWriter	writer;
+
+	@Before
+	public void setUp() throws Exception {
+		directory = File.createTempFile("screenshots", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		directory.delete();
+		writer = new ScreenshotWriter(4);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		writer.flush(5000);
+		File[] files = directory.listFiles();
+		if (files != null)
+			for (File file : files)
+				file.delete();
+		directory.delete();
+	}
+
+	@Test
+	public void savesScreenshotsInTheBackground() throws Exception {
+		File file = new File(directory, "display.png"); //$NON-NLS-1$
+		assertTrue(writer.capture(file.getPath(), false));
+		assertTrue(writer.flush(5000));
+		assertTrue(file.exists());
+	}
+
+	@Test
+	public void savesScreenshotsOfTheActiveShell() throws Exception {
+		File file = new File(directory, "shell.png"); //$NON-NLS-1$
+		assertTrue(writer.capture(file.getPath(), true));
+		assertTrue(writer.flush(5000));
+		assertTrue(file.exists());
+	}
+
+	@Test
+	public void savesScreenshotsWhenTheQueueIsFull() throws Exception {
+		for (int i = 0; i < 8; i++)
+			assertTrue(writer.capture(new File(directory, i + ".png").getPath(), false)); //$NON-NLS-1$
+		assertTrue(writer.flush(10000));
+		for (int i = 0; i < 8; i++)
+			assertTrue(new File(directory, i + ".png").exists()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void cancelsUnknownScreenshots() throws Exception {
+		assertFalse(writer.cancel(new File(directory, "unknown.png").getPath())); //$NON-NLS-1$
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownFormats() throws Exception {
+		writer.capture(new File(directory, "screenshot.unknown").getPath(), false); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		new Label(parent, SWT.NONE).setText("Screenshot"); //$NON-NLS-1$
+	}
+}
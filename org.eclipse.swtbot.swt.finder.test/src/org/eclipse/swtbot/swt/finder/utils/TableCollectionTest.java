@@ -14,6 +14,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 public class TableCollectionTest {
@@ -42,6 +44,37 @@ public class TableCollectionTest {
 		assertEquals("[Hello, world]\n" + "[goodbye, world]\n", collection().toString());
 	}
 
+	@Test
+	public void columnarCollectionEqualsRowCollection() throws Exception {
+		assertEquals(collection(), columnarCollection());
+		assertEquals(columnarCollection(), collection());
+		assertEquals(collection().hashCode(), columnarCollection().hashCode());
+		assertEquals(collection().toString(), columnarCollection().toString());
+	}
+
+	@Test
+	public void getsCellsFromColumnarCollection() throws Exception {
+		TableCollection collection = columnarCollection();
+		assertEquals(2, collection.rowCount());
+		assertEquals(2, collection.columnCount());
+		assertEquals("goodbye", collection.get(1, 0));
+		assertEquals(new TableRow(new String[] { "Hello", "world" }), collection.get(0));
+		assertEquals(Arrays.asList("world", "world"), collection.column(1));
+	}
+
+	@Test
+	public void iteratesOverRows() throws Exception {
+		int rows = 0;
+		for (TableRow row : columnarCollection())
+			assertEquals(collection().get(rows++), row);
+		assertEquals(2, rows);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cannotAddRowsToColumnarCollection() throws Exception {
+		columnarCollection().add(new TableRow());
+	}
+
 	private TableCollection emptyTableCollection() {
 		return new TableCollection();
 	}
@@ -50,4 +83,8 @@ public class TableCollectionTest {
 		return new TableCollection(new TableRow[] { new TableRow(new String[] { "Hello", "world" }),
 				new TableRow(new String[] { "goodbye", "world" }) });
 	}
+
+	private TableCollection columnarCollection() {
+		return new TableCollection(new String[][] { { "Hello", "goodbye" }, { "world", "world" } });
+	}
 }
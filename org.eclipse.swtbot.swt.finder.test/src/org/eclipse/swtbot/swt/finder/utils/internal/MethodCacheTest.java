@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class MethodCacheTest {
+
+	@Test
+	public void findsPublicMethodsOnce() throws Exception {
+		Method method = MethodCache.getMethod(StringBuilder.class, "toString");
+
+		assertEquals(StringBuilder.class.getMethod("toString"), method);
+		assertSame(method, MethodCache.getMethod(StringBuilder.class, "toString"));
+	}
+
+	@Test
+	public void remembersMissingMethods() throws Exception {
+		assertNull(MethodCache.getMethod(Object.class, "getText"));
+		assertNull(MethodCache.getMethod(Object.class, "getText"));
+		assertFalse(MethodCache.hasMethod(new Object(), "getText"));
+		assertFalse(MethodCache.hasMethod(null, "getText"));
+	}
+
+	@Test
+	public void cachesMethodsByClass() throws Exception {
+		assertTrue(MethodCache.hasMethod("text", "length"));
+		assertFalse(MethodCache.hasMethod(new Object(), "length"));
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.fail;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotText;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
+import org.junit.Test;
+
+/**
+ * @version $Id$
+ */
+public class EventDrivenWaitStrategyTest extends AbstractSWTShellTest {
+
+	private Text	text;
+
+	@Test
+	public void evaluatesConditionWhenDisplayChanges() throws Exception {
+		bot.setWaitStrategy(new EventDrivenWaitStrategy());
+		final SWTBotText botText = new SWTBotText(text);
+		setTextLater("done", 200);
+
+		long start = System.currentTimeMillis();
+		bot.waitUntil(new DefaultCondition() {
+			@Override
+			public boolean test() throws Exception {
+				return botText.getText().equals("done");
+			}
+
+			@Override
+			public String getFailureMessage() {
+				return "text was not set";
+			}
+		}, 10000, 5000);
+		long end = System.currentTimeMillis();
+
+		int time = (int) (end - start);
+		assertThat(time, allOf(lessThan(2000), greaterThan(150)));
+	}
+
+	@Test
+	public void waitsWhileConditionIsTrue() throws Exception {
+		bot.setWaitStrategy(new EventDrivenWaitStrategy());
+		final SWTBotText botText = new SWTBotText(text);
+		setTextLater("done", 200);
+
+		bot.waitWhile(new DefaultCondition() {
+			@Override
+			public boolean test() throws Exception {
+				return !botText.getText().equals("done");
+			}
+
+			@Override
+			public String getFailureMessage() {
+				return "text was not set";
+			}
+		}, 10000, 5000);
+	}
+
+	@Test
+	public void timesOutWhenConditionIsNeverMet() throws Exception {
+		bot.setWaitStrategy(new EventDrivenWaitStrategy());
+		long start = System.currentTimeMillis();
+		try {
+			bot.waitUntil(new DefaultCondition() {
+				@Override
+				public boolean test() throws Exception {
+					return false;
+				}
+
+				@Override
+				public String getFailureMessage() {
+					return "never";
+				}
+			}, 300, 100);
+			fail("Expected a timeout exception");
+		} catch (TimeoutException expected) {
+			long end = System.currentTimeMillis();
+			assertThat((int) (end - start), allOf(lessThan(2000), greaterThan(299)));
+		}
+	}
+
+	@Test
+	public void ignoresEventsSentByTheCondition() throws Exception {
+		bot.setWaitStrategy(new EventDrivenWaitStrategy());
+		final int[] tests = new int[1];
+		try {
+			bot.waitUntil(new DefaultCondition() {
+				@Override
+				public boolean test() throws Exception {
+					tests[0]++;
+					display.syncExec(new Runnable() {
+						@Override
+						public void run() {
+							text.notifyListeners(SWT.Modify, new Event());
+						}
+					});
+					return false;
+				}
+
+				@Override
+				public String getFailureMessage() {
+					return "never";
+				}
+			}, 1000, 500);
+			fail("Expected a timeout exception");
+		} catch (TimeoutException expected) {
+			// backs off as if nothing happened, instead of testing every 10ms
+			assertThat(tests[0], lessThan(20));
+		}
+	}
+
+	@Test
+	public void failsWhenTheWaitStrategyCannotBeCreated() throws Exception {
+		String waitStrategy = SWTBotPreferences.WAIT_STRATEGY;
+		try {
+			SWTBotPreferences.WAIT_STRATEGY = "org.eclipse.swtbot.swt.finder.waits.NoSuchWaitStrategy";
+			new SWTBot();
+			fail("Expected an exception");
+		} catch (IllegalArgumentException expected) {
+			assertThat(expected.getMessage(), containsString("NoSuchWaitStrategy"));
+		} finally {
+			SWTBotPreferences.WAIT_STRATEGY = waitStrategy;
+		}
+	}
+
+	private void setTextLater(final String newText, final long delay) {
+		new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException niceTry) {
+				}
+				display.syncExec(new Runnable() {
+					@Override
+					public void run() {
+						text.setText(newText);
+					}
+				});
+			}
+		}).start();
+	}
+
+	@Override
+	protected void createUI(Composite parent) {
+		text = new Text(parent, SWT.SINGLE);
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.widgets;
+
+import static org.eclipse.swtbot.swt.finder.SWTBotAssert.assertContains;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swtbot.swt.finder.test.AbstractBrowserExampleTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs scripts against a page rendered from local HTML, so that no network access is needed.
+ *
+ * @version $Id$
+ */
+public class SWTBotBrowserScriptTest extends AbstractBrowserExampleTest {
+
+	private SWTBotBrowser	browser;
+
+	@Before
+	public void loadPage() throws Exception {
+		browser = bot.browser();
+		browser.setText("<html><head><title>SWTBot page</title></head><body><p>Local content</p></body></html>");
+	}
+
+	@Test
+	public void waitsForPageLoaded() throws Exception {
+		browser.waitForPageLoaded();
+		assertTrue(browser.isPageLoaded());
+		assertContains("Local content", browser.getText());
+	}
+
+	@Test
+	public void executeJavaScript() throws Exception {
+		browser.execute("document.getElementsByTagName('body')[0].innerHTML='<p>JavaScript works</p>';");
+		assertEquals("JavaScript works", browser.evaluate("return document.body.textContent;", String.class).get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void evaluateJavaScript() throws Exception {
+		browser.waitForPageLoaded();
+		assertEquals(Double.valueOf(3), browser.evaluate("return 1 + 2;", Double.class).get(5, TimeUnit.SECONDS));
+		assertEquals("SWTBot page", browser.evaluate("return document.title;", String.class).get(5, TimeUnit.SECONDS));
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void evaluateJavaScriptOfWrongType() throws Exception {
+		browser.waitForPageLoaded();
+		browser.evaluate("return 'text';", Boolean.class).get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void evaluateJavaScriptInBatch() throws Exception {
+		browser.executeAll("window.swtbot = 1;", "window.swtbot += 1;");
+		Object[] values = browser.evaluateAll("return window.swtbot;", "return typeof window.swtbot;").get(5, TimeUnit.SECONDS);
+		assertArrayEquals(new Object[] { Double.valueOf(2), "number" }, values);
+	}
+
+}
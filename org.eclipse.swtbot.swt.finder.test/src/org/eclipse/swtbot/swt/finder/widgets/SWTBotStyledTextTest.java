@@ -99,6 +99,14 @@ public class SWTBotStyledTextTest extends AbstractCustomControlExampleTest {
 		assertTextContains("---123 #@! :; {} [] ---", styledText.widget);
 	}
 
+	@Test
+	public void pastesTextAtTheCaret() throws Exception {
+		styledText.setText("hello world");
+		styledText.navigateTo(0, 6);
+		styledText.pasteText("pasted ");
+		assertEquals("hello pasted world", styledText.getText());
+	}
+
 	@Test
 	public void insertsTextAtALocation() throws Exception {
 		styledText.insertText(1, 0, "---inserted text---\n");
@@ -69,6 +69,25 @@ public class SWTBotTableTest extends AbstractControlExampleTest {
 		assertEquals("tomorrow", table.cell(7, 3));
 	}
 
+	@Test
+	public void getsAllCells() throws Exception {
+		TableCollection cells = table.cells();
+		assertEquals(16, cells.rowCount());
+		assertEquals(4, cells.columnCount());
+		assertEquals("Index:5", cells.get(5, 0));
+		assertEquals("tomorrow", cells.get(7, 3));
+	}
+
+	@Test
+	public void getsCellsInRowRangeAndColumns() throws Exception {
+		TableCollection cells = table.cells(4, 8, new int[] { 3, 0 });
+		assertEquals(4, cells.rowCount());
+		assertEquals(2, cells.columnCount());
+		assertEquals("Index:5", cells.get(1, 1));
+		assertEquals("tomorrow", cells.get(3, 0));
+		assertEquals(table.cell(4, 2), table.cells(4, 5, new int[] { 2 }).get(0, 0));
+	}
+
 	@Test
 	public void getsTextCellBasedOnRowNumberColumnText() throws Exception {
 		assertEquals("2556", table.cell(1, "Size"));
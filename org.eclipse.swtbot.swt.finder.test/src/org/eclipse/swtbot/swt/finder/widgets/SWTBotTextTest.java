@@ -68,6 +68,91 @@ public class SWTBotTextTest extends AbstractControlExampleTest {
 		assertTextContains("Type This 123", text.widget);
 	}
 
+	@Test
+	public void pastesText() throws Exception {
+		try {
+			bot.checkBox("Listen").click();
+			SWTBotText text = bot.textInGroup("Text");
+			text.setText("");
+			bot.button("Clear").click();
+
+			text.pasteText("Paste This 123");
+			assertText("Paste This 123", text.widget);
+			assertTextContains("VerifyEvent", bot.textInGroup("Listeners").widget);
+		} finally {
+			bot.checkBox("Listen").click();
+			bot.button("Clear").click();
+		}
+	}
+
+	@Test
+	public void pastesLongTextWhenTyping() throws Exception {
+		int pasteThreshold = SWTBotPreferences.PASTE_THRESHOLD;
+		try {
+			SWTBotPreferences.PASTE_THRESHOLD = 5;
+			SWTBotText text = bot.textInGroup("Text");
+			text.setText("");
+
+			text.typeText("Pasted instead of typed");
+			assertText("Pasted instead of typed", text.widget);
+		} finally {
+			SWTBotPreferences.PASTE_THRESHOLD = pasteThreshold;
+		}
+	}
+
+	@Test
+	public void typesLongTextWithControlCharacters() throws Exception {
+		int pasteThreshold = SWTBotPreferences.PASTE_THRESHOLD;
+		try {
+			SWTBotPreferences.PASTE_THRESHOLD = 5;
+			bot.checkBox("Listen").click();
+			SWTBotText text = bot.textInGroup("Text");
+			text.setText("");
+			bot.button("Clear").click();
+
+			text.typeText("Typed\tnot pasted");
+			assertText("Typed\tnot pasted", text.widget);
+			assertTextContains("KeyDown", bot.textInGroup("Listeners").widget);
+		} finally {
+			SWTBotPreferences.PASTE_THRESHOLD = pasteThreshold;
+			bot.checkBox("Listen").click();
+			bot.button("Clear").click();
+		}
+	}
+
+	@Test
+	public void burstTypesText() throws Exception {
+		String keyboardStrategy = SWTBotPreferences.KEYBOARD_STRATEGY;
+		try {
+			SWTBotPreferences.KEYBOARD_STRATEGY = "org.eclipse.swtbot.swt.finder.keyboard.SWTKeyboardStrategy";
+			SWTBotText text = bot.textInGroup("Text");
+			text.pressShortcut(Keystrokes.SPACE);
+			text.setText("");
+
+			text.typeText("Burst Typed: A+b=C! (OK)", 0);
+			assertText("Burst Typed: A+b=C! (OK)", text.widget);
+		} finally {
+			SWTBotPreferences.KEYBOARD_STRATEGY = keyboardStrategy;
+		}
+	}
+
+	@Test
+	public void burstTypingRejectsUnmappableCharacters() throws Exception {
+		String keyboardStrategy = SWTBotPreferences.KEYBOARD_STRATEGY;
+		try {
+			SWTBotPreferences.KEYBOARD_STRATEGY = "org.eclipse.swtbot.swt.finder.keyboard.SWTKeyboardStrategy";
+			SWTBotText text = bot.textInGroup("Text");
+			text.setText("");
+
+			text.typeText("Caf\u00e9", 0);
+			fail("Expecting an exception");
+		} catch (IllegalArgumentException e) {
+			assertText("", bot.textInGroup("Text").widget);
+		} finally {
+			SWTBotPreferences.KEYBOARD_STRATEGY = keyboardStrategy;
+		}
+	}
+
 	@Test
 	public void setsTextInReadOnly() throws Exception {
 		bot.checkBox("SWT.READ_ONLY").select();
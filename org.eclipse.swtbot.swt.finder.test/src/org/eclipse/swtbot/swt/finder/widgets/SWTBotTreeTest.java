@@ -91,6 +91,19 @@ public class SWTBotTreeTest extends AbstractControlExampleTest {
 		assertEquals("today", tree.cell(3, 3));
 	}
 
+	@Test
+	public void getsCellsOfVisibleRows() throws Exception {
+		bot.checkBox("Multiple Columns").select();
+		tree = bot.treeInGroup("Tree");
+
+		TableCollection cells = tree.cells();
+		assertEquals(tree.visibleRowCount(), cells.rowCount());
+		assertEquals(4, cells.columnCount());
+		assertEquals("Node 2", cells.get(1, 0));
+		assertEquals("2556", cells.get(1, 2));
+		assertEquals("Node 2", tree.cells(new int[] { 0 }).get(1, 0));
+	}
+
 	@Test
 	public void getsTextCellBasedOnRowNumberColumnText() throws Exception {
 		bot.checkBox("Multiple Columns").select();
@@ -23,6 +23,7 @@ import static org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable.syncExec;
 import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
 import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
 import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withId;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withMnemonic;
 import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
 import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withTooltip;
 import static org.eclipse.swtbot.swt.finder.waits.Conditions.waitForShell;
@@ -33,6 +34,7 @@ import java.util.List;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Shell;
@@ -41,16 +43,22 @@ import org.eclipse.swt.widgets.TrayItem;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.Finder;
+import org.eclipse.swtbot.swt.finder.finders.WidgetCache;
+import org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation;
+import org.eclipse.swtbot.swt.finder.instrumentation.Operation;
 import org.eclipse.swtbot.swt.finder.matchers.WithItem;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.waits.Conditions;
 import org.eclipse.swtbot.swt.finder.waits.ICondition;
+import org.eclipse.swtbot.swt.finder.waits.PollingWaitStrategy;
 import org.eclipse.swtbot.swt.finder.waits.WaitForObjectCondition;
+import org.eclipse.swtbot.swt.finder.waits.WaitStrategy;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotMenu;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotRootMenu;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotShell;
@@ -78,6 +86,10 @@ abstract class SWTBotFactory {
 	protected final Display		display;
 	/** The finder used by the bot to find controls. */
 	protected final Finder		finder;
+	/** The strategy used by the bot to wait for conditions. */
+	private WaitStrategy		waitStrategy;
+	/** The controls found by the bot, used when {@link SWTBotPreferences#WIDGET_CACHE} is set. */
+	private final WidgetCache	widgetCache;
 
 	/**
 	 * Constructs a bot with the given finder.
@@ -87,6 +99,8 @@ abstract class SWTBotFactory {
 	public SWTBotFactory(Finder finder) {
 		display = SWTUtils.display();
 		this.finder = finder;
+		this.waitStrategy = defaultWaitStrategy();
+		this.widgetCache = new WidgetCache(finder);
 	}
 
 	/**
@@ -404,9 +418,17 @@ abstract class SWTBotFactory {
 	 * @return the first widget that matchs the matcher.
 	 */
 	public <T extends Widget> T widget(Matcher<T> matcher, Widget parentWidget, int index) {
+		if (SWTBotPreferences.WIDGET_CACHE) {
+			T widget = widgetCache.get(matcher, parentWidget, index);
+			if (widget != null)
+				return widget;
+		}
 		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher, parentWidget);
 		waitUntilWidgetAppears(waitForWidget);
-		return waitForWidget.get(index);
+		T widget = waitForWidget.get(index);
+		if (SWTBotPreferences.WIDGET_CACHE)
+			widgetCache.put(matcher, parentWidget, index, widget);
+		return widget;
 	}
 
 	/**
@@ -415,9 +437,19 @@ abstract class SWTBotFactory {
 	 * @return the index'th widget matching the matcher.
 	 */
 	public <T extends Widget> T widget(Matcher<T> matcher, int index) {
+		Widget searchRoot = null;
+		if (SWTBotPreferences.WIDGET_CACHE) {
+			searchRoot = finder.getSearchRoot();
+			T widget = widgetCache.get(matcher, searchRoot, index);
+			if (widget != null)
+				return widget;
+		}
 		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher);
 		waitUntilWidgetAppears(waitForWidget);
-		return waitForWidget.get(index);
+		T widget = waitForWidget.get(index);
+		if (searchRoot != null)
+			widgetCache.put(matcher, searchRoot, index, widget);
+		return widget;
 	}
 
 	/**
@@ -451,6 +483,22 @@ abstract class SWTBotFactory {
 		return result.toArray(new SWTBotShell[result.size()]);
 	}
 
+	/**
+	 * Gets a bot that only searches the widgets of the first group with the specified text. Looking up widgets with
+	 * this bot searches the group only, instead of checking the ancestors of every widget of the active shell as
+	 * {@link org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory#inGroup(String)} does.
+	 *
+	 * @param groupText the text of the group.
+	 * @return a bot that finds the widgets in the group.
+	 * @throws WidgetNotFoundException if the group is not found.
+	 * @since 2.7
+	 */
+	@SuppressWarnings("unchecked")
+	public SWTBot botInGroup(String groupText) throws WidgetNotFoundException {
+		Matcher<Widget> matcher = allOf(widgetOfType(Group.class), withMnemonic(groupText));
+		return new SWTBot(widget(matcher));
+	}
+
 	/**
 	 * Gets the current active shell.
 	 *
@@ -497,8 +545,8 @@ abstract class SWTBotFactory {
 	}
 
 	/**
-	 * Waits until the condition has been meet, or the timeout is reached. The interval is the delay between evaluating
-	 * the condition after it has failed.
+	 * Waits until the condition has been meet, or the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has failed, the {@link #getWaitStrategy() wait strategy} may evaluate it sooner.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
@@ -508,18 +556,12 @@ abstract class SWTBotFactory {
 	public void waitUntil(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init((SWTBot) this);
-		while (true) {
-			try {
-				if (condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		long start = Instrumentation.start();
+		try {
+			getWaitStrategy().waitUntil(display, condition, timeout, interval);
+		} finally {
+			Instrumentation.end(Operation.WAIT_UNTIL, start);
 		}
 	}
 
@@ -547,8 +589,8 @@ abstract class SWTBotFactory {
 	}
 
 	/**
-	 * Waits while the condition is true, until the timeout is reached. The interval is the delay between evaluating the
-	 * condition after it has succeed.
+	 * Waits while the condition is true, until the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has succeed, the {@link #getWaitStrategy() wait strategy} may evaluate it sooner.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
@@ -559,18 +601,50 @@ abstract class SWTBotFactory {
 	public void waitWhile(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init((SWTBot) this);
-		while (true) {
-			try {
-				if (!condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		long start = Instrumentation.start();
+		try {
+			getWaitStrategy().waitUntil(display, new NegatedCondition(condition), timeout, interval);
+		} finally {
+			Instrumentation.end(Operation.WAIT_UNTIL, start);
+		}
+	}
+
+	/**
+	 * Gets the strategy used to wait for conditions.
+	 *
+	 * @return the wait strategy.
+	 * @see SWTBotPreferences#WAIT_STRATEGY
+	 * @since 2.7
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * Sets the strategy used to wait for conditions.
+	 *
+	 * @param waitStrategy the wait strategy.
+	 * @since 2.7
+	 */
+	public void setWaitStrategy(WaitStrategy waitStrategy) {
+		Assert.isNotNull(waitStrategy, "The wait strategy can not be null"); //$NON-NLS-1$
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * @return the wait strategy defined by {@link SWTBotPreferences#WAIT_STRATEGY}.
+	 * @throws IllegalArgumentException if the wait strategy cannot be created.
+	 */
+	private static WaitStrategy defaultWaitStrategy() {
+		String strategyClass = SWTBotPreferences.WAIT_STRATEGY;
+		if (PollingWaitStrategy.class.getName().equals(strategyClass))
+			return new PollingWaitStrategy();
+		try {
+			return Class.forName(strategyClass).asSubclass(WaitStrategy.class).getConstructor().newInstance();
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Could not create the wait strategy " + strategyClass + ", check the " //$NON-NLS-1$ //$NON-NLS-2$
+					+ SWTBotPreferenceConstants.KEY_WAIT_STRATEGY + " property", e); //$NON-NLS-1$
 		}
 	}
 
@@ -612,6 +686,14 @@ abstract class SWTBotFactory {
 		return finder;
 	}
 
+	/**
+	 * @return the controls found by this bot, used when {@link SWTBotPreferences#WIDGET_CACHE} is set.
+	 * @since 2.7
+	 */
+	public WidgetCache getWidgetCache() {
+		return widgetCache;
+	}
+
 	/**
 	 * Returns the control which currently has keyboard focus, or <code>null</code> if keyboard events are not currently
 	 * going to any of the controls built by the currently running application.
@@ -759,4 +841,31 @@ abstract class SWTBotFactory {
         	SWTBotPreferences.TIMEOUT = old;
         }
 	}
+
+	/**
+	 * A condition that is met when the wrapped condition is not.
+	 */
+	private static class NegatedCondition implements ICondition {
+
+		private final ICondition	condition;
+
+		NegatedCondition(ICondition condition) {
+			this.condition = condition;
+		}
+
+		@Override
+		public boolean test() throws Exception {
+			return !condition.test();
+		}
+
+		@Override
+		public void init(SWTBot bot) {
+			condition.init(bot);
+		}
+
+		@Override
+		public String getFailureMessage() {
+			return condition.getFailureMessage();
+		}
+	}
 }
@@ -67,4 +67,13 @@ public class ChildrenControlFinder extends ControlFinder {
 		return findControls(parentWidget, matcher, true);
 	}
 
+	/**
+	 * @return the parent widget.
+	 * @since 2.7
+	 */
+	@Override
+	public Widget getSearchRoot() {
+		return parentWidget;
+	}
+
 }
@@ -13,9 +13,11 @@ package org.eclipse.swtbot.swt.finder.finders;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
 import org.eclipse.swt.widgets.Composite;
@@ -23,14 +25,19 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation;
+import org.eclipse.swtbot.swt.finder.instrumentation.Operation;
+import org.eclipse.swtbot.swt.finder.matchers.MatcherCompiler;
 import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
 import org.eclipse.swtbot.swt.finder.resolvers.DefaultParentResolver;
 import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
 import org.eclipse.swtbot.swt.finder.resolvers.IParentResolver;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.ListResult;
+import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.TreePath;
 import org.hamcrest.Matcher;
@@ -49,6 +56,9 @@ public class ControlFinder {
 	 */
 	private static final Logger			log							= Logger.getLogger(ControlFinder.class);
 
+	/** The data of the search running in the calling thread, see {@link #currentSearch()}. */
+	private static final ThreadLocal<Map<Object, Object>>	search	= new ThreadLocal<Map<Object, Object>>();
+
 	/** The childrenResolver */
 	protected final IChildrenResolver	childrenResolver;
 
@@ -66,6 +76,15 @@ public class ControlFinder {
 	 */
 	public boolean						shouldFindInVisibleControls	= false;
 
+	/**
+	 * Set to true if the control finder should capture a {@link WidgetSnapshot} of the widgets in one pass on the UI
+	 * thread and evaluate matchers against it from the calling thread. Defaults to
+	 * {@link SWTBotPreferences#SNAPSHOT_SEARCH}.
+	 *
+	 * @since 2.7
+	 */
+	public boolean						shouldUseSnapshot			= SWTBotPreferences.SNAPSHOT_SEARCH;
+
 	/**
 	 * Creates a Control finder using {@link DefaultChildrenResolver} and {@link DefaultParentResolver}.
 	 */
@@ -99,6 +118,19 @@ public class ControlFinder {
 		return findControls(activeShell(), matcher, true);
 	}
 
+	/**
+	 * Gets the widget that {@link #findControls(Matcher)} searches.
+	 * <p>
+	 * Note: This method is thread safe.
+	 * </p>
+	 *
+	 * @return the active shell.
+	 * @since 2.7
+	 */
+	public Widget getSearchRoot() {
+		return activeShell();
+	}
+
 	/**
 	 * Finds the controls matching one of the widgets using the given matcher. This will also go recursively though the
 	 * {@code widgets} provided.
@@ -147,10 +179,82 @@ public class ControlFinder {
 	 *         find the widget within each of the parentWidget.
 	 */
 	public <T extends Widget> List<T> findControls(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive) {
-		return UIThreadRunnable.syncExec(display, new ListResult<T>() {
+		long start = Instrumentation.start();
+		try {
+			if (shouldUseSnapshot && !SWTUtils.isUIThread(display))
+				return snapshot(parentWidget, recursive).match(matcher);
+			return UIThreadRunnable.syncExec(display, new ListResult<T>() {
+				@Override
+				public List<T> run() {
+					boolean outermost = search.get() == null;
+					if (outermost)
+						startSearch();
+					try {
+						return findControlsInternal(parentWidget, matcher, recursive);
+					} finally {
+						if (outermost)
+							endSearch(null);
+					}
+				}
+			});
+		} finally {
+			Instrumentation.end(Operation.FIND_CONTROLS, start);
+		}
+	}
+
+	/**
+	 * Gets the data of the search that is evaluating matchers in the calling thread. The map is the same for all the
+	 * widgets matched during one call to {@link #findControls(Widget, Matcher, boolean)}, including the searches nested
+	 * in it, or during one call to {@link WidgetSnapshot#match(Matcher)}, and it is dropped when that call returns.
+	 * Matchers that need to look at other widgets may keep in it, keyed by themselves, what they compute once per
+	 * search, rather than computing it once per widget or keeping it in a field after the search.
+	 *
+	 * @return the data of the current search, or <code>null</code> if no search is running in the calling thread.
+	 * @since 2.7
+	 */
+	public static Map<Object, Object> currentSearch() {
+		return search.get();
+	}
+
+	/**
+	 * Starts a search with empty data in the calling thread.
+	 *
+	 * @return the data of the search it replaces, to be given back to {@link #endSearch(Map)}.
+	 */
+	static Map<Object, Object> startSearch() {
+		Map<Object, Object> previous = search.get();
+		search.set(new IdentityHashMap<Object, Object>());
+		return previous;
+	}
+
+	/**
+	 * Ends the search running in the calling thread, dropping its data.
+	 *
+	 * @param previous the data returned by {@link #startSearch()}.
+	 */
+	static void endSearch(Map<Object, Object> previous) {
+		if (previous == null)
+			search.remove();
+		else
+			search.set(previous);
+	}
+
+	/**
+	 * Captures the state of the widgets starting with the given parent widget in one pass on the UI thread.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param parentWidget the parent widget in which controls should be captured.
+	 * @param recursive if the children of the parent widget should be captured.
+	 * @return the snapshot of all visible widgets in the parentWidget.
+	 * @since 2.7
+	 */
+	public WidgetSnapshot snapshot(final Widget parentWidget, final boolean recursive) {
+		return UIThreadRunnable.syncExec(display, new Result<WidgetSnapshot>() {
 			@Override
-			public List<T> run() {
-				return findControlsInternal(parentWidget, matcher, recursive);
+			public WidgetSnapshot run() {
+				return WidgetSnapshot.capture(ControlFinder.this, parentWidget, recursive);
 			}
 		});
 	}
@@ -192,19 +296,33 @@ public class ControlFinder {
 			return new ArrayList<T>();
 		}
 		LinkedHashSet<T> controls = new LinkedHashSet<T>();
-		if (matcher.matches(parentWidget) && !controls.contains(parentWidget))
+		// the type of a widget tells nothing about its children, so they are searched even if it cannot match
+		if (MatcherCompiler.mayMatch(matcher, parentWidget) && matcher.matches(parentWidget) && !controls.contains(parentWidget))
 			try {
 				controls.add((T) parentWidget);
 			} catch (ClassCastException exception) {
 				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
 			}
 		if (recursive) {
-			List<Widget> children = getChildrenResolver().getChildren(parentWidget);
+			List<Widget> children = children(parentWidget);
 			controls.addAll(findControlsInternal(children, matcher, recursive));
 		}
 		return new ArrayList<T>(controls);
 	}
 
+	/**
+	 * Gets the children of a widget, without copying them when the default children resolver is used.
+	 *
+	 * @param widget the widget.
+	 * @return the children of the widget, the list must not be modified.
+	 */
+	List<Widget> children(Widget widget) {
+		IChildrenResolver resolver = getChildrenResolver();
+		if (resolver instanceof DefaultChildrenResolver)
+			return ((DefaultChildrenResolver) resolver).resolveChildren(widget);
+		return resolver.getChildren(widget);
+	}
+
 	private boolean isComposite(Widget parentWidget) {
 		return parentWidget.getClass().equals(Composite.class);
 	}
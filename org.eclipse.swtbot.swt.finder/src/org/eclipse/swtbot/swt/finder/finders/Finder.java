@@ -88,6 +88,17 @@ public class Finder {
 		return controlFinder.findControls(matcher);
 	}
 
+	/**
+	 * Gets the widget that {@link #findControls(Matcher)} searches.
+	 *
+	 * @return the widget searched for controls, the active shell unless the finder is limited to a parent widget.
+	 * @see ControlFinder#getSearchRoot()
+	 * @since 2.7
+	 */
+	public Widget getSearchRoot() {
+		return controlFinder.getSearchRoot();
+	}
+
 	/**
 	 * Finds the controls matching one of the widgets using the given matcher. If recursive is set, it will attempt to
 	 * recursively find the controls in each {@code children} widget if they exist.
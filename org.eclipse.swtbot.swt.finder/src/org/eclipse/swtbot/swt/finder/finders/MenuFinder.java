@@ -63,6 +63,51 @@ public class MenuFinder {
 		return findMenuItem(menuBar(shell), matcher, recursive, index);
 	}
 
+	/**
+	 * Finds the menu item at the given text path in the given shell, as returned by
+	 * {@link SWTUtils#getTextPath(MenuItem)}. A path starting with "BAR" is looked up in the menu bar of the shell, a
+	 * path starting with "POP_UP" in the pop up menu of the shell, and any other path in the menu bar of the shell.
+	 *
+	 * @param shell the shell to probe for menus.
+	 * @param textPath the texts of the menu items along the path.
+	 * @return the menu item at the given path, or null.
+	 * @see #findMenuItem(Menu, String...)
+	 * @since 2.7
+	 */
+	public MenuItem findMenuItem(final Shell shell, final String... textPath) {
+		return UIThreadRunnable.syncExec(display, new WidgetResult<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				if ((textPath.length > 0) && "POP_UP".equals(textPath[0])) { //$NON-NLS-1$
+					return findMenuItemInternal(shell.getMenu(), textPath, 1);
+				}
+				int start = (textPath.length > 0) && "BAR".equals(textPath[0]) ? 1 : 0; //$NON-NLS-1$
+				return findMenuItemInternal(shell.getMenuBar(), textPath, start);
+			}
+		});
+	}
+
+	/**
+	 * Finds the menu item at the given text path relative to the given menu, in a single pass in the UI thread. The
+	 * mnemonic character '&amp;' and the accelerator text are ignored.
+	 * <p>
+	 * Only the menu items along the path are armed, and only their sub-menus are shown.
+	 * </p>
+	 *
+	 * @param menu the menu.
+	 * @param texts the texts of the menu items along the path.
+	 * @return the menu item at the given path, or null.
+	 * @since 2.7
+	 */
+	public MenuItem findMenuItem(final Menu menu, final String... texts) {
+		return UIThreadRunnable.syncExec(display, new WidgetResult<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				return findMenuItemInternal(menu, texts, 0);
+			}
+		});
+	}
+
 	/**
 	 * Finds all menu items matching the given matcher in all available shells.
 	 * It will attempt to find the menu items recursively in each of the
@@ -225,6 +270,55 @@ public class MenuFinder {
 		return null;
 	}
 
+	private MenuItem findMenuItemInternal(Menu menu, final String[] texts, int start) {
+		MenuItem menuItem = null;
+		for (int i = start; i < texts.length; i++) {
+			menuItem = findMenuItemInternal(menu, normalize(texts[i]));
+			if (menuItem == null) {
+				return null;
+			}
+			menuItem.notifyListeners(SWT.Arm, createEvent(menuItem));
+			menu = menuItem.getMenu();
+			if (menu != null) {
+				menu.notifyListeners(SWT.Show, createEvent(menu));
+			}
+		}
+		return menuItem;
+	}
+
+	private MenuItem findMenuItemInternal(Menu menu, String text) {
+		if ((menu == null) || menu.isDisposed()) {
+			return null;
+		}
+		for (MenuItem menuItem : menu.getItems()) {
+			if (!menuItem.isDisposed() && !isSeparator(menuItem) && text.equals(normalize(menuItem.getText()))) {
+				return menuItem;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the mnemonic character '&amp;' and the accelerator text from the text of a menu item.
+	 */
+	private String normalize(String text) {
+		int tab = text.indexOf('\t');
+		if (tab != -1) {
+			text = text.substring(0, tab);
+		}
+		if (text.indexOf('&') == -1) {
+			return text;
+		}
+		StringBuilder result = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c != '&') {
+				result.append(c);
+			}
+		}
+		return result.toString();
+	}
+
 	/**
 	 * @param menu
 	 * @param matcher
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swtbot.swt.finder.utils.StringUtils;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+
+/**
+ * Resolves a path of node texts in a tree.
+ * <p>
+ * Each call to {@link #resolve()} walks down the path as far as the tree allows, in a single pass, and remembers how
+ * far it went. When a node is missing, because the children of a lazily populated tree are not there yet, the next call
+ * carries on from the last node found, so the resolver can be called again from a condition until the path is resolved.
+ * The nodes are looked up by index, one at a time, so the siblings of the nodes along the path are not copied, and in a
+ * {@link SWT#VIRTUAL} tree only the siblings preceding a node are asked for their data.
+ * </p>
+ * <p>
+ * The nodes along the path, except the last one, must be expanded before their children are looked up. The resolver
+ * does not expand them itself: it stops at each collapsed node, see {@link #getCollapsedNode()}, so that the caller
+ * expands it with the events a user would send, outside the UI thread. When an expanded node has no children yet, the
+ * resolver waits for them and then asks for the node to be expanded again.
+ * </p>
+ * <p>
+ * The resolver must only be used in the UI thread.
+ * </p>
+ *
+ * @see UIThreadRunnable
+ * @version $Id$
+ * @since 2.7
+ */
+public class TreePathResolver {
+
+	private final Tree		tree;
+	private final TreeItem	root;
+	private final String[]	path;
+	/** The last node found, <code>null</code> if none was found yet. */
+	private TreeItem		item;
+	/** The number of nodes found along the path. */
+	private int				resolved;
+	/** The node that must be expanded before resolving further, <code>null</code> if none. */
+	private TreeItem		collapsed;
+	/** The last node asked to be expanded. */
+	private TreeItem		expandRequested;
+	/** <code>true</code> if the last node asked to be expanded had no children then. */
+	private boolean			requestedEmpty;
+
+	/**
+	 * Creates a resolver for a path starting at the root of a tree.
+	 *
+	 * @param tree the tree.
+	 * @param path the texts of the nodes along the path.
+	 */
+	public TreePathResolver(Tree tree, String... path) {
+		this(tree, null, path);
+	}
+
+	/**
+	 * Creates a resolver for a path starting at a node of a tree.
+	 *
+	 * @param root the node the path starts at, it is not expanded.
+	 * @param path the texts of the nodes along the path.
+	 */
+	public TreePathResolver(TreeItem root, String... path) {
+		this(root.getParent(), root, path);
+	}
+
+	private TreePathResolver(Tree tree, TreeItem root, String... path) {
+		Assert.isNotEmpty((Object[]) path);
+		this.tree = tree;
+		this.root = root;
+		this.path = path;
+	}
+
+	/**
+	 * Walks down the path from the last node found.
+	 *
+	 * @return <code>true</code> if the whole path is resolved, <code>false</code> if a node is missing or a node must
+	 *         be expanded first, see {@link #getCollapsedNode()}.
+	 */
+	public boolean resolve() {
+		collapsed = null;
+		if ((root != null) && root.isDisposed())
+			return false;
+		if ((item != null) && item.isDisposed()) {
+			// the tree was refreshed, start over
+			item = null;
+			resolved = 0;
+			expandRequested = null;
+		}
+		while (resolved < path.length) {
+			if ((item != null) && !item.getExpanded() && !canDescend(item))
+				return false;
+			TreeItem parent = item != null ? item : root;
+			TreeItem next = parent != null ? findItem(parent, path[resolved]) : findItem(tree, path[resolved]);
+			if (next == null)
+				return false;
+			item = next;
+			resolved++;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the node along the path that must be expanded before the path can be resolved further, or
+	 *         <code>null</code> if there is none.
+	 */
+	public TreeItem getCollapsedNode() {
+		return collapsed;
+	}
+
+	/**
+	 * @return the node at the end of the path, or <code>null</code> if the path is not resolved.
+	 */
+	public TreeItem getItem() {
+		return resolved == path.length ? item : null;
+	}
+
+	/**
+	 * @return the text of the first node that could not be found, or <code>null</code> if the path is resolved.
+	 */
+	public String getMissingNode() {
+		return resolved == path.length ? null : path[resolved];
+	}
+
+	/**
+	 * @return a message describing how far the path was resolved.
+	 */
+	public String getFailureMessage() {
+		if (resolved == path.length)
+			return "Resolved node path " + StringUtils.join(path, ">"); //$NON-NLS-1$ //$NON-NLS-2$
+		return "Could not find node with text " + path[resolved] + " in node path " + StringUtils.join(path, ">"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Gets the first root item of a tree with the given text, without copying the items of the tree.
+	 *
+	 * @param tree the tree.
+	 * @param text the text of the item.
+	 * @return the first item with the given text, or <code>null</code> if there is none.
+	 */
+	public static TreeItem findItem(Tree tree, String text) {
+		int count = tree.getItemCount();
+		for (int i = 0; i < count; i++) {
+			TreeItem item = tree.getItem(i);
+			if (item.getText().equals(text))
+				return item;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the first child of a tree item with the given text, without copying the children of the item.
+	 *
+	 * @param parent the tree item.
+	 * @param text the text of the child.
+	 * @return the first child with the given text, or <code>null</code> if there is none.
+	 */
+	public static TreeItem findItem(TreeItem parent, String text) {
+		int count = parent.getItemCount();
+		for (int i = 0; i < count; i++) {
+			TreeItem item = parent.getItem(i);
+			if (item.getText().equals(text))
+				return item;
+		}
+		return null;
+	}
+
+	/**
+	 * Decides whether to look up the children of a collapsed node, or to ask for it to be expanded.
+	 *
+	 * @param node the collapsed node.
+	 * @return <code>true</code> if the node could not be expanded but has children to look up.
+	 */
+	private boolean canDescend(TreeItem node) {
+		boolean populated = node.getItemCount() > 0;
+		if ((node != expandRequested) || (requestedEmpty && populated)) {
+			// not asked yet, or populated since it was asked while it had no children to expand
+			expandRequested = node;
+			requestedEmpty = !populated;
+			collapsed = node;
+			return false;
+		}
+		return populated;
+	}
+}
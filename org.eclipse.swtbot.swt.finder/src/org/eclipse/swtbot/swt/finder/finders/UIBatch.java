@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.display;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+
+/**
+ * Collects operations to be performed in the UI thread, and performs all of them in a single
+ * {@link Display#syncExec(Runnable)}.
+ * <p>
+ * Each operation that is added returns a {@link Future} that holds the result of the operation once the batch is
+ * executed. An operation that throws does not prevent the other operations from being performed, its exception is
+ * thrown by {@link Future#get()} wrapped in an {@link ExecutionException}.
+ * </p>
+ *
+ * <pre>
+ * UIBatch batch = new UIBatch();
+ * Future&lt;Integer&gt; rows = batch.add(new IntResult() {
+ * 	public Integer run() {
+ * 		return table.getItemCount();
+ * 	}
+ * });
+ * Future&lt;Integer&gt; columns = batch.add(new IntResult() {
+ * 	public Integer run() {
+ * 		return table.getColumnCount();
+ * 	}
+ * });
+ * batch.execute();
+ * assertEquals(100, rows.get() * columns.get());
+ * </pre>
+ *
+ * @see UIThreadRunnable
+ * @version $Id$
+ * @since 2.7
+ */
+public class UIBatch {
+
+	private final Display					display;
+	private final List<BatchFuture<?>>		futures	= new ArrayList<BatchFuture<?>>();
+
+	/**
+	 * Creates a batch that executes in the UI thread of the default display.
+	 */
+	public UIBatch() {
+		this(display());
+	}
+
+	/**
+	 * Creates a batch that executes in the UI thread of the given display.
+	 *
+	 * @param display the display on which operations must be executed.
+	 */
+	public UIBatch(Display display) {
+		this.display = display;
+	}
+
+	/**
+	 * Adds an operation to this batch.
+	 *
+	 * @param <T> the type of the result.
+	 * @param toExecute the operation to perform in the UI thread.
+	 * @return the future result of the operation.
+	 */
+	public synchronized <T> Future<T> add(Result<T> toExecute) {
+		Assert.isNotNull(toExecute, "The operation can not be null"); //$NON-NLS-1$
+		BatchFuture<T> future = new BatchFuture<T>(toExecute);
+		futures.add(future);
+		return future;
+	}
+
+	/**
+	 * Adds an operation to this batch.
+	 *
+	 * @param toExecute the operation to perform in the UI thread.
+	 * @return a future that completes once the operation is performed.
+	 */
+	public Future<Void> add(final VoidResult toExecute) {
+		Assert.isNotNull(toExecute, "The operation can not be null"); //$NON-NLS-1$
+		return add(new Result<Void>() {
+			@Override
+			public Void run() {
+				toExecute.run();
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * @return the number of operations waiting to be executed.
+	 */
+	public synchronized int size() {
+		return futures.size();
+	}
+
+	/**
+	 * Performs all the operations added so far in a single trip to the UI thread, in the order in which they were
+	 * added, and blocks the calling thread until they are done. The batch is empty afterwards and may be reused.
+	 */
+	public void execute() {
+		final List<BatchFuture<?>> toExecute;
+		synchronized (this) {
+			if (futures.isEmpty())
+				return;
+			toExecute = new ArrayList<BatchFuture<?>>(futures);
+			futures.clear();
+		}
+		UIThreadRunnable.syncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				for (BatchFuture<?> future : toExecute)
+					future.execute();
+			}
+		});
+		// the display was disposed before the operations could run
+		for (BatchFuture<?> future : toExecute)
+			future.cancel(false);
+	}
+
+	/**
+	 * The result of an operation in a batch.
+	 */
+	private static class BatchFuture<T> implements Future<T> {
+
+		private final Result<T>	toExecute;
+		private T				result;
+		private Throwable		error;
+		private boolean			done;
+		private boolean			cancelled;
+
+		BatchFuture(Result<T> toExecute) {
+			this.toExecute = toExecute;
+		}
+
+		void execute() {
+			synchronized (this) {
+				// cancelled by the caller before the batch was executed
+				if (cancelled)
+					return;
+			}
+			T value = null;
+			Throwable throwable = null;
+			try {
+				value = toExecute.run();
+			} catch (Throwable e) {
+				throwable = e;
+			}
+			synchronized (this) {
+				result = value;
+				error = throwable;
+				done = true;
+				notifyAll();
+			}
+		}
+
+		@Override
+		public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+			if (done)
+				return false;
+			cancelled = true;
+			done = true;
+			notifyAll();
+			return true;
+		}
+
+		@Override
+		public synchronized boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public synchronized boolean isDone() {
+			return done;
+		}
+
+		@Override
+		public synchronized T get() throws InterruptedException, ExecutionException {
+			while (!done)
+				wait();
+			return value();
+		}
+
+		@Override
+		public synchronized T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+				java.util.concurrent.TimeoutException {
+			long limit = System.currentTimeMillis() + unit.toMillis(timeout);
+			while (!done) {
+				long remaining = limit - System.currentTimeMillis();
+				if (remaining <= 0)
+					throw new java.util.concurrent.TimeoutException("The batch was not executed in time"); //$NON-NLS-1$
+				wait(remaining);
+			}
+			return value();
+		}
+
+		private T value() throws ExecutionException {
+			if (cancelled)
+				throw new CancellationException("The operation was cancelled, or the display was disposed, before it could run"); //$NON-NLS-1$
+			if (error != null)
+				throw new ExecutionException(error);
+			return result;
+		}
+	}
+}
@@ -13,9 +13,16 @@ package org.eclipse.swtbot.swt.finder.finders;
 import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.display;
 import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.isUIThread;
 
-import java.util.ArrayList;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.log4j.Logger;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Synchronizer;
+import org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation;
+import org.eclipse.swtbot.swt.finder.instrumentation.Operation;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
@@ -67,13 +74,18 @@ public abstract class UIThreadRunnable implements Runnable {
 		if ((display == null) || display.isDisposed())
 			return;
 
-		if (!isUIThread(display)) {
-			if (async)
-				display.asyncExec(runnable());
-			else
-				display.syncExec(runnable());
-		} else
-			doRun();
+		long start = Instrumentation.start();
+		try {
+			if (!isUIThread(display)) {
+				if (async)
+					display.asyncExec(runnable());
+				else
+					display.syncExec(runnable());
+			} else
+				doRun();
+		} finally {
+			Instrumentation.end(async ? Operation.ASYNC_EXEC : Operation.SYNC_EXEC, start);
+		}
 	}
 
 	/**
@@ -133,14 +145,14 @@ public abstract class UIThreadRunnable implements Runnable {
 	 * @return the object result of execution on the UI thread.
 	 */
 	public static <T> T syncExec(Display display, final Result<T> toExecute) {
-		final ArrayList<T> arrayList = new ArrayList<T>();
-		new UIThreadRunnable(display) {
+		ResultRunnable<T> runnable = new ResultRunnable<T>(display) {
 			@Override
-			protected void doRun() {
-				arrayList.add(toExecute.run());
+			protected T compute() {
+				return toExecute.run();
 			}
-		}.run();
-		return arrayList.get(0);
+		};
+		runnable.run();
+		return runnable.get();
 	}
 
 	/**
@@ -163,15 +175,14 @@ public abstract class UIThreadRunnable implements Runnable {
 	 * @return the object result of execution on the UI thread.
 	 */
 	public static <T> T[] syncExec(Display display, final ArrayResult<T> toExecute) {
-		final ArrayList<T[]> arrayList = new ArrayList<T[]>();
-		new UIThreadRunnable(display) {
+		ResultRunnable<T[]> runnable = new ResultRunnable<T[]>(display) {
 			@Override
-			protected void doRun() {
-				T[] run = toExecute.run();
-				arrayList.add(run);
+			protected T[] compute() {
+				return toExecute.run();
 			}
-		}.run();
-		return arrayList.get(0);
+		};
+		runnable.run();
+		return runnable.get();
 	}
 
 	/**
@@ -224,4 +235,140 @@ public abstract class UIThreadRunnable implements Runnable {
 		}.run();
 	}
 
+	/**
+	 * Waits until the display is idle: the asynchronous runnables pending when this is called have run, and so have the
+	 * runnables they post in turn. Blocks the calling thread.
+	 * <p>
+	 * The display is not driven from here: the calling thread repeatedly posts an empty runnable with
+	 * {@link Display#asyncExec(Runnable)} and waits for it to run, until no runnable is pending behind it. The runnables
+	 * therefore run in whichever event loop the UI thread is running, including the nested loop of a modal dialog that
+	 * one of them opened. Runnables posted with {@link Display#timerExec(int, Runnable)} are not waited for. An
+	 * application that keeps posting runnables, such as an animation, never gets idle, this is why the waiting stops
+	 * after the given timeout. Called from the UI thread, this returns immediately since waiting would block the loop, and
+	 * so it does on a disposed display.
+	 * </p>
+	 *
+	 * @param display the display.
+	 * @param timeout the maximum time in milliseconds to wait.
+	 * @since 2.7
+	 */
+	public static void drainEvents(final Display display, final long timeout) {
+		if (display.isDisposed())
+			return;
+		try {
+			if (display.getThread() == Thread.currentThread())
+				return;
+		} catch (SWTException e) {
+			return; // the display was disposed in the meantime
+		}
+		long limit = System.currentTimeMillis() + timeout;
+		while (true) {
+			Sentinel sentinel = new Sentinel(display);
+			try {
+				display.asyncExec(sentinel);
+			} catch (SWTException e) {
+				return; // the display is disposed
+			}
+			if (!sentinel.await(limit - System.currentTimeMillis()) || sentinel.idle)
+				return;
+		}
+	}
+
+	/**
+	 * An empty runnable that tells the thread waiting for it whether other runnables were pending when it ran.
+	 */
+	private static class Sentinel implements Runnable {
+
+		private static final Logger		log				= Logger.getLogger(UIThreadRunnable.class);
+		private static final Method		getMessageCount	= messageCountMethod();
+		private static volatile boolean	warned;
+
+		private final Display			display;
+		private final CountDownLatch	done			= new CountDownLatch(1);
+		private volatile boolean		idle;
+
+		Sentinel(Display display) {
+			this.display = display;
+		}
+
+		@Override
+		public void run() {
+			idle = pendingRunnables() == 0;
+			done.countDown();
+		}
+
+		boolean await(long timeout) {
+			try {
+				return timeout > 0 && done.await(timeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		/**
+		 * The synchronizer does not publish the number of runnables it holds, without it the sentinel can only tell
+		 * that the runnables posted before it have run, so it reports the display as idle. This is logged once.
+		 */
+		private int pendingRunnables() {
+			if (getMessageCount == null)
+				return 0;
+			try {
+				return (Integer) getMessageCount.invoke(display.getSynchronizer());
+			} catch (Exception e) {
+				warnOnce(e);
+				return 0;
+			}
+		}
+
+		private static Method messageCountMethod() {
+			try {
+				Method method = Synchronizer.class.getDeclaredMethod("getMessageCount"); //$NON-NLS-1$
+				method.setAccessible(true);
+				return method;
+			} catch (Exception e) {
+				warnOnce(e);
+				return null;
+			}
+		}
+
+		private static void warnOnce(Exception e) {
+			if (warned)
+				return;
+			warned = true;
+			log.warn("Could not read the number of runnables pending in the display, draining the events only waits for the runnables posted before it.", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Holds on to the value computed in the UI thread, so that it can be handed to the calling thread without
+	 * allocating a container for it.
+	 */
+	private abstract static class ResultRunnable<T> extends UIThreadRunnable {
+
+		private T		result;
+		private boolean	executed;
+
+		ResultRunnable(Display display) {
+			super(display);
+		}
+
+		/**
+		 * @return the value, computed in the UI thread.
+		 */
+		protected abstract T compute();
+
+		@Override
+		protected void doRun() {
+			result = compute();
+			executed = true;
+		}
+
+		T get() {
+			if (!executed)
+				throw new IndexOutOfBoundsException("Nothing was executed, the display is disposed"); //$NON-NLS-1$
+			return result;
+		}
+	}
+
 }
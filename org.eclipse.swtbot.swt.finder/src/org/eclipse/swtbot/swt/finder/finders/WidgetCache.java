@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.results.BoolResult;
+import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Remembers the controls found by a bot, so that looking up the same control again does not search the widget tree.
+ * <p>
+ * The controls are cached by the description of the matcher, the parent widget searched and the index of the control
+ * among the matching controls. A cached control is only returned if it is not disposed, if it is visible unless the
+ * finder finds invisible controls, if it is still a descendant of the parent widget and if it still matches the
+ * matcher. A control is dropped from the cache when it is disposed or hidden.
+ * </p>
+ * <p>
+ * The cache does not notice that a new control matching the matcher was created before the cached control, so that
+ * the cached control is no longer at the given index. This is why it is only used when
+ * {@link SWTBotPreferences#WIDGET_CACHE} is set.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class WidgetCache {
+
+	private final Finder			finder;
+	private final Map<Key, Widget>	widgets		= new HashMap<Key, Widget>();
+	/** The widgets that have the {@link #invalidate} listener, only accessed in the UI thread. */
+	private final Set<Widget>		listened	= new HashSet<Widget>();
+
+	private final Listener			invalidate	= new Listener() {
+		public void handleEvent(Event event) {
+			remove(event.widget);
+		}
+	};
+
+	/**
+	 * Creates an empty cache.
+	 *
+	 * @param finder the finder the cached controls were found with.
+	 */
+	public WidgetCache(Finder finder) {
+		this.finder = finder;
+	}
+
+	/**
+	 * Gets the cached control matching the matcher in the parent widget.
+	 *
+	 * @param matcher the matcher used to find the control.
+	 * @param parent the widget the control was searched in.
+	 * @param index the index of the control among the matching controls.
+	 * @return the control, or <code>null</code> if it is not cached or no longer valid.
+	 */
+	public <T extends Widget> T get(final Matcher<T> matcher, final Widget parent, int index) {
+		final Key key = new Key(StringDescription.toString(matcher), parent, index);
+		final Widget widget;
+		synchronized (widgets) {
+			widget = widgets.get(key);
+		}
+		if (widget == null)
+			return null;
+		boolean valid = UIThreadRunnable.syncExec(finder.getDisplay(), new BoolResult() {
+			@Override
+			public Boolean run() {
+				return isValid(widget, parent, matcher);
+			}
+		});
+		if (!valid) {
+			synchronized (widgets) {
+				widgets.remove(key);
+			}
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		T result = (T) widget;
+		return result;
+	}
+
+	/**
+	 * Caches a control found with the matcher in the parent widget. Nothing is cached if the widget is not a control,
+	 * or if it is not in the parent widget.
+	 *
+	 * @param matcher the matcher used to find the control.
+	 * @param parent the widget the control was searched in.
+	 * @param index the index of the control among the matching controls.
+	 * @param widget the control.
+	 */
+	public <T extends Widget> void put(Matcher<T> matcher, final Widget parent, int index, final T widget) {
+		Key key = new Key(StringDescription.toString(matcher), parent, index);
+		Widget cached = UIThreadRunnable.syncExec(finder.getDisplay(), new WidgetResult<Widget>() {
+			@Override
+			public Widget run() {
+				if (widget.isDisposed() || !isDescendant(widget, parent))
+					return null;
+				if (listened.add(widget)) {
+					widget.addListener(SWT.Dispose, invalidate);
+					widget.addListener(SWT.Hide, invalidate);
+				}
+				return widget;
+			}
+		});
+		if (cached == null)
+			return;
+		synchronized (widgets) {
+			widgets.put(key, widget);
+		}
+	}
+
+	/**
+	 * @return the number of cached controls.
+	 */
+	public int size() {
+		synchronized (widgets) {
+			return widgets.size();
+		}
+	}
+
+	/**
+	 * Drops all the cached controls.
+	 */
+	public void clear() {
+		synchronized (widgets) {
+			widgets.clear();
+		}
+	}
+
+	private void remove(Widget widget) {
+		listened.remove(widget);
+		if (!widget.isDisposed()) {
+			widget.removeListener(SWT.Dispose, invalidate);
+			widget.removeListener(SWT.Hide, invalidate);
+		}
+		synchronized (widgets) {
+			for (Iterator<Widget> iterator = widgets.values().iterator(); iterator.hasNext();) {
+				if (iterator.next() == widget)
+					iterator.remove();
+			}
+		}
+	}
+
+	private boolean isValid(Widget widget, Widget parent, Matcher<?> matcher) {
+		if (widget.isDisposed() || ((parent != null) && parent.isDisposed()))
+			return false;
+		if (!finder.shouldFindInvisibleControls() && !((Control) widget).isVisible())
+			return false;
+		return isDescendant(widget, parent) && matcher.matches(widget);
+	}
+
+	private boolean isDescendant(Widget widget, Widget parent) {
+		if (!(widget instanceof Control) || !(parent instanceof Control))
+			return false;
+		for (Control control = (Control) widget; control != null; control = control.getParent()) {
+			if (control == parent)
+				return true;
+		}
+		return false;
+	}
+
+	private static class Key {
+		private final String	description;
+		private final Widget	parent;
+		private final int		index;
+
+		Key(String description, Widget parent, int index) {
+			this.description = description;
+			this.parent = parent;
+			this.index = index;
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * (31 * description.hashCode() + System.identityHashCode(parent))) + index;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return (parent == other.parent) && (index == other.index) && description.equals(other.description);
+		}
+	}
+}
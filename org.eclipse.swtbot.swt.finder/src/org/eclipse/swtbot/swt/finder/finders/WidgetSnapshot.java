@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.matchers.MatcherCompiler;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
+import org.hamcrest.Matcher;
+
+/**
+ * A copy of the state of a widget tree, captured in one pass on the UI thread.
+ * <p>
+ * The snapshot holds the type, style, text, tooltip, id and visibility of every widget that a {@link ControlFinder}
+ * would visit, in the order in which it would visit them. Matchers are evaluated against the snapshot using
+ * {@link #match(Matcher)}, outside the UI thread: while matching, {@link org.eclipse.swtbot.swt.finder.utils.SWTUtils}
+ * answers from the snapshot instead of querying the widgets. Anything not held by the snapshot is still read from the
+ * widget itself.
+ * </p>
+ *
+ * @see ControlFinder#shouldUseSnapshot
+ * @version $Id$
+ * @since 2.7
+ */
+public final class WidgetSnapshot {
+
+	/** Returned by the accessors when the snapshot does not hold the requested value. */
+	public static final Object						NOT_CAPTURED	= new Object();
+
+	/** Marks a widget that has no such method. */
+	private static final String						NO_METHOD		= new String();
+
+	private static final ThreadLocal<WidgetSnapshot>	current			= new ThreadLocal<WidgetSnapshot>();
+
+	private final String							idKey;
+	private final Map<Widget, Integer>				indexes			= new IdentityHashMap<Widget, Integer>();
+
+	private int										size;
+	private Widget[]								widgets			= new Widget[64];
+	private int[]									parents			= new int[64];
+	private int[]									styles			= new int[64];
+	private Object[]								texts			= new Object[64];
+	private Object[]								toolTips		= new Object[64];
+	private Object[]								ids				= new Object[64];
+	private boolean[]								visible			= new boolean[64];
+
+	private WidgetSnapshot() {
+		idKey = SWTBotPreferences.DEFAULT_KEY;
+	}
+
+	/**
+	 * Captures the widgets that the finder would visit starting at the given widget.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @param finder the finder deciding on the children and visibility of widgets.
+	 * @param root the widget to start from.
+	 * @param recursive if the children of the root widget should be captured.
+	 * @return the snapshot.
+	 */
+	static WidgetSnapshot capture(ControlFinder finder, Widget root, boolean recursive) {
+		WidgetSnapshot snapshot = new WidgetSnapshot();
+		List<Widget> stack = new ArrayList<Widget>();
+		List<Integer> stackParents = new ArrayList<Integer>();
+		stack.add(root);
+		stackParents.add(-1);
+		while (!stack.isEmpty()) {
+			int last = stack.size() - 1;
+			Widget widget = stack.remove(last);
+			int parent = stackParents.remove(last);
+			if ((widget == null) || widget.isDisposed() || !finder.visible(widget) || snapshot.indexes.containsKey(widget))
+				continue;
+			int index = snapshot.add(widget, parent);
+			if (recursive) {
+				List<Widget> children = finder.children(widget);
+				// pushed in reverse so that children are visited in order
+				for (int i = children.size() - 1; i >= 0; i--) {
+					stack.add(children.get(i));
+					stackParents.add(index);
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	private int add(Widget widget, int parent) {
+		if (size == widgets.length)
+			grow();
+		widgets[size] = widget;
+		parents[size] = parent;
+		styles[size] = widget.getStyle();
+		texts[size] = invoke(widget, "getText"); //$NON-NLS-1$
+		toolTips[size] = invoke(widget, "getToolTipText"); //$NON-NLS-1$
+		ids[size] = widget.getData(idKey);
+		visible[size] = !(widget instanceof Control) || ((Control) widget).getVisible();
+		indexes.put(widget, size);
+		return size++;
+	}
+
+	private void grow() {
+		int capacity = widgets.length * 2;
+		Widget[] newWidgets = new Widget[capacity];
+		System.arraycopy(widgets, 0, newWidgets, 0, size);
+		widgets = newWidgets;
+		int[] newParents = new int[capacity];
+		System.arraycopy(parents, 0, newParents, 0, size);
+		parents = newParents;
+		int[] newStyles = new int[capacity];
+		System.arraycopy(styles, 0, newStyles, 0, size);
+		styles = newStyles;
+		Object[] newTexts = new Object[capacity];
+		System.arraycopy(texts, 0, newTexts, 0, size);
+		texts = newTexts;
+		Object[] newToolTips = new Object[capacity];
+		System.arraycopy(toolTips, 0, newToolTips, 0, size);
+		toolTips = newToolTips;
+		Object[] newIds = new Object[capacity];
+		System.arraycopy(ids, 0, newIds, 0, size);
+		ids = newIds;
+		boolean[] newVisible = new boolean[capacity];
+		System.arraycopy(visible, 0, newVisible, 0, size);
+		visible = newVisible;
+	}
+
+	private static Object invoke(Widget widget, String methodName) {
+		Method method = MethodCache.getMethod(widget.getClass(), methodName);
+		if (method == null)
+			return NO_METHOD;
+		try {
+			return method.invoke(widget, new Object[0]);
+		} catch (Exception niceTry) {
+			return null;
+		}
+	}
+
+	/**
+	 * Evaluates the matcher against all the widgets in this snapshot, from the calling thread.
+	 *
+	 * @param matcher the matcher used to match the widgets.
+	 * @return the matching widgets, in the order in which they were captured.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Widget> List<T> match(Matcher<T> matcher) {
+		WidgetSnapshot previous = current.get();
+		Map<Object, Object> previousSearch = ControlFinder.startSearch();
+		current.set(this);
+		try {
+			List<T> result = new ArrayList<T>();
+			for (int i = 0; i < size; i++) {
+				if (MatcherCompiler.mayMatch(matcher, widgets[i]) && matcher.matches(widgets[i]))
+					try {
+						result.add((T) widgets[i]);
+					} catch (ClassCastException exception) {
+						throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+					}
+			}
+			return result;
+		} finally {
+			current.set(previous);
+			ControlFinder.endSearch(previousSearch);
+		}
+	}
+
+	/**
+	 * @return the snapshot being matched against in the calling thread, or <code>null</code> if there is none.
+	 */
+	public static WidgetSnapshot current() {
+		return current.get();
+	}
+
+	/**
+	 * @return the number of widgets in this snapshot.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param widget the widget.
+	 * @return the index of the widget in this snapshot, or -1 if it was not captured.
+	 */
+	public int indexOf(Object widget) {
+		Integer index = indexes.get(widget);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * @param index the index of the widget.
+	 * @return the widget.
+	 */
+	public Widget widget(int index) {
+		return widgets[index];
+	}
+
+	/**
+	 * @param index the index of the widget.
+	 * @return the index of the parent widget, or -1 for the root of the snapshot.
+	 */
+	public int parent(int index) {
+		return parents[index];
+	}
+
+	/**
+	 * @param index the index of the widget.
+	 * @return the style of the widget.
+	 * @see Widget#getStyle()
+	 */
+	public int style(int index) {
+		return styles[index];
+	}
+
+	/**
+	 * @param index the index of the widget.
+	 * @return <code>true</code> if the widget is not a control, or is a visible control.
+	 * @see Control#getVisible()
+	 */
+	public boolean isVisible(int index) {
+		return visible[index];
+	}
+
+	/**
+	 * Gets the value that invoking the given method on the widget returned when this snapshot was taken.
+	 *
+	 * @param widget the widget.
+	 * @param methodName the name of the method, only {@code getText} and {@code getToolTipText} are captured.
+	 * @return the value returned by the method, <code>null</code> if the method threw an exception, or
+	 *         {@link #NOT_CAPTURED}.
+	 * @throws NoSuchMethodException if the widget does not have the method.
+	 */
+	public Object invokeMethod(Object widget, String methodName) throws NoSuchMethodException {
+		int index = indexOf(widget);
+		if (index < 0)
+			return NOT_CAPTURED;
+		Object value;
+		if ("getText".equals(methodName)) //$NON-NLS-1$
+			value = texts[index];
+		else if ("getToolTipText".equals(methodName)) //$NON-NLS-1$
+			value = toolTips[index];
+		else
+			return NOT_CAPTURED;
+		if (value == NO_METHOD)
+			throw new NoSuchMethodException(widget.getClass().getName() + "." + methodName); //$NON-NLS-1$
+		return value;
+	}
+
+	/**
+	 * Gets the data that was set on the widget for the given key when this snapshot was taken.
+	 *
+	 * @param widget the widget.
+	 * @param key the key, only {@link SWTBotPreferences#DEFAULT_KEY} is captured.
+	 * @return the data, or {@link #NOT_CAPTURED}.
+	 * @see Widget#getData(String)
+	 */
+	public Object getData(Object widget, String key) {
+		int index = indexOf(widget);
+		if ((index < 0) || !idKey.equals(key))
+			return NOT_CAPTURED;
+		return ids[index];
+	}
+}
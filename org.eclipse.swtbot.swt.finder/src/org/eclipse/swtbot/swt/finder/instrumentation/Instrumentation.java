@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The registry of {@link InstrumentationListener}s that SWTBot operations report into.
+ * <p>
+ * Operations are timed only while a listener is registered, otherwise {@link #start()} and
+ * {@link #end(Operation, long)} cost a single read of a volatile field. Operations report as follows:
+ * </p>
+ *
+ * <pre>
+ * long start = Instrumentation.start();
+ * try {
+ * 	// perform the operation
+ * } finally {
+ * 	Instrumentation.end(Operation.FIND_CONTROLS, start);
+ * }
+ * </pre>
+ *
+ * @see OperationStatistics
+ * @version $Id$
+ * @since 2.7
+ */
+public final class Instrumentation {
+
+	/** Returned by {@link #start()} when no listener is registered. */
+	private static final long								NOT_STARTED	= Long.MIN_VALUE;
+
+	private static final List<InstrumentationListener>	listeners	= new CopyOnWriteArrayList<InstrumentationListener>();
+
+	private static volatile boolean							enabled;
+
+	private Instrumentation() {
+	}
+
+	/**
+	 * Registers a listener, operations are timed from now on.
+	 *
+	 * @param listener the listener.
+	 */
+	public static synchronized void addListener(InstrumentationListener listener) {
+		listeners.add(listener);
+		enabled = true;
+	}
+
+	/**
+	 * Unregisters a listener, operations are no longer timed once there is no listener left.
+	 *
+	 * @param listener the listener.
+	 */
+	public static synchronized void removeListener(InstrumentationListener listener) {
+		listeners.remove(listener);
+		enabled = !listeners.isEmpty();
+	}
+
+	/**
+	 * @return <code>true</code> if a listener is registered.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Marks the start of an operation.
+	 *
+	 * @return the value to hand to {@link #end(Operation, long)}.
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : NOT_STARTED;
+	}
+
+	/**
+	 * Marks the end of an operation, and reports it to the listeners.
+	 *
+	 * @param operation the operation.
+	 * @param start the value returned by {@link #start()} when the operation started.
+	 */
+	public static void end(Operation operation, long start) {
+		if (start == NOT_STARTED)
+			return;
+		long nanos = System.nanoTime() - start;
+		for (InstrumentationListener listener : listeners)
+			listener.completed(operation, nanos);
+	}
+}
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+/**
+ * Receives the duration of the SWTBot operations once they complete.
+ * <p>
+ * Listeners are invoked on the thread that performed the operation, which may be the UI thread, and possibly on
+ * several threads at once. They must be thread safe and return quickly.
+ * </p>
+ *
+ * @see Instrumentation#addListener(InstrumentationListener)
+ * @version $Id$
+ * @since 2.7
+ */
+public interface InstrumentationListener {
+
+	/**
+	 * Invoked when an operation completes, whether it succeeded or threw.
+	 *
+	 * @param operation the operation.
+	 * @param nanos the duration of the operation in nanoseconds.
+	 */
+	void completed(Operation operation, long nanos);
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+/**
+ * The operations reported to {@link InstrumentationListener}s.
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public enum Operation {
+
+	/** Waiting for a condition, reported by {@link org.eclipse.swtbot.swt.finder.SWTBotFactory#waitUntil} and waitWhile. */
+	WAIT_UNTIL("waitUntil"), //$NON-NLS-1$
+
+	/** Searching for widgets, reported by {@link org.eclipse.swtbot.swt.finder.finders.ControlFinder#findControls}. */
+	FIND_CONTROLS("findControls"), //$NON-NLS-1$
+
+	/** Running code on the UI thread and waiting for it, reported by {@link org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable}. */
+	SYNC_EXEC("syncExec"), //$NON-NLS-1$
+
+	/** Posting code to the UI thread, reported by {@link org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable}. */
+	ASYNC_EXEC("asyncExec"), //$NON-NLS-1$
+
+	/** Sending events to a widget, reported by {@link org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBot}. */
+	NOTIFY("notify"); //$NON-NLS-1$
+
+	private final String	displayName;
+
+	private Operation(String displayName) {
+		this.displayName = displayName;
+	}
+
+	@Override
+	public String toString() {
+		return displayName;
+	}
+}
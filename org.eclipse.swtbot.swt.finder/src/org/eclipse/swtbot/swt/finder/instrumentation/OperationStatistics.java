@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.instrumentation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the operations and keeps a histogram of their durations.
+ * <p>
+ * Durations are recorded in buckets of powers of two nanoseconds, so percentiles are approximated by the upper bound
+ * of their bucket, which is at most twice the actual value. Recording a duration does not allocate nor lock.
+ * </p>
+ *
+ * <pre>
+ * OperationStatistics statistics = new OperationStatistics();
+ * Instrumentation.addListener(statistics);
+ * // run some tests
+ * Instrumentation.removeListener(statistics);
+ * System.out.println(statistics);
+ * </pre>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class OperationStatistics implements InstrumentationListener {
+
+	private static final int		BUCKETS		= 64;
+	private static final int		OPERATIONS	= Operation.values().length;
+
+	/** For each operation: the count, the total and the maximum duration. */
+	private final AtomicLongArray	totals		= new AtomicLongArray(OPERATIONS * 3);
+	/** For each operation, the number of durations of each power of two. */
+	private final AtomicLongArray	histograms	= new AtomicLongArray(OPERATIONS * BUCKETS);
+
+	@Override
+	public void completed(Operation operation, long nanos) {
+		int index = operation.ordinal();
+		nanos = Math.max(0, nanos);
+		totals.incrementAndGet(index * 3);
+		totals.addAndGet(index * 3 + 1, nanos);
+		long max;
+		while ((max = totals.get(index * 3 + 2)) < nanos)
+			if (totals.compareAndSet(index * 3 + 2, max, nanos))
+				break;
+		histograms.incrementAndGet(index * BUCKETS + bucket(nanos));
+	}
+
+	private static int bucket(long nanos) {
+		return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos));
+	}
+
+	/**
+	 * @param operation the operation.
+	 * @return the number of times the operation was performed.
+	 */
+	public long count(Operation operation) {
+		return totals.get(operation.ordinal() * 3);
+	}
+
+	/**
+	 * @param operation the operation.
+	 * @return the time spent in the operation, in nanoseconds.
+	 */
+	public long totalNanos(Operation operation) {
+		return totals.get(operation.ordinal() * 3 + 1);
+	}
+
+	/**
+	 * @param operation the operation.
+	 * @return the longest duration of the operation, in nanoseconds.
+	 */
+	public long maxNanos(Operation operation) {
+		return totals.get(operation.ordinal() * 3 + 2);
+	}
+
+	/**
+	 * Approximates a percentile of the durations of an operation.
+	 *
+	 * @param operation the operation.
+	 * @param percentile the percentile, between 0 and 100.
+	 * @return a duration in nanoseconds that at least the given percentage of the operations did not exceed, at most
+	 *         twice the actual percentile. 0 if the operation was never performed.
+	 */
+	public long percentileNanos(Operation operation, double percentile) {
+		long count = count(operation);
+		if (count == 0)
+			return 0;
+		long rank = (long) Math.ceil(count * percentile / 100);
+		long seen = 0;
+		int offset = operation.ordinal() * BUCKETS;
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen += histograms.get(offset + bucket);
+			if (seen >= rank)
+				return Math.min(maxNanos(operation), bucket == 0 ? 0 : (1L << bucket) - 1);
+		}
+		return maxNanos(operation);
+	}
+
+	/**
+	 * Forgets all the operations recorded so far.
+	 */
+	public void reset() {
+		for (int i = 0; i < totals.length(); i++)
+			totals.set(i, 0);
+		for (int i = 0; i < histograms.length(); i++)
+			histograms.set(i, 0);
+	}
+
+	/**
+	 * @return one line per operation that was performed, with its count, total, median, 90th percentile and maximum
+	 *         durations in milliseconds.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder();
+		for (Operation operation : Operation.values()) {
+			long count = count(operation);
+			if (count == 0)
+				continue;
+			result.append(operation).append(": ").append(count).append(" calls, ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(millis(totalNanos(operation))).append(" ms total, p50 ") //$NON-NLS-1$
+					.append(millis(percentileNanos(operation, 50))).append(" ms, p90 ") //$NON-NLS-1$
+					.append(millis(percentileNanos(operation, 90))).append(" ms, max ") //$NON-NLS-1$
+					.append(millis(maxNanos(operation))).append(" ms\n"); //$NON-NLS-1$
+		}
+		return result.toString();
+	}
+
+	private static String millis(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		return (micros / 1000) + "." + String.format("%03d", micros % 1000); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -68,7 +68,12 @@ public abstract class AbstractKeyboardStrategy implements KeyboardStrategy {
 		}
 	}
 
-	private void assertKeys(KeyStroke... keys) {
+	/**
+	 * Checks that each of the keystrokes is either a natural key or a modifier key.
+	 *
+	 * @param keys the keystrokes.
+	 */
+	void assertKeys(KeyStroke... keys) {
 		for (KeyStroke key : keys) {
 			assertKey(key);
 		}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.keyboard;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.dnd.Clipboard;
+import org.eclipse.swt.dnd.FileTransfer;
+import org.eclipse.swt.dnd.HTMLTransfer;
+import org.eclipse.swt.dnd.ImageTransfer;
+import org.eclipse.swt.dnd.RTFTransfer;
+import org.eclipse.swt.dnd.TextTransfer;
+import org.eclipse.swt.dnd.Transfer;
+import org.eclipse.swt.dnd.URLTransfer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
+
+/**
+ * Inputs text through the clipboard.
+ * <p>
+ * The text is put on the clipboard and pasted by the <code>paste()</code> method of the widget, such as
+ * {@link org.eclipse.swt.widgets.Text#paste()} or {@link org.eclipse.swt.custom.StyledText#paste()}. The widget
+ * notifies its verify and modify listeners as if the user pasted the text. The previous contents of the clipboard, in
+ * the formats SWT knows about, are restored afterwards, or only its text if some of the contents cannot be set back.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+class ClipboardInput {
+
+	/** The formats of the clipboard contents that are restored after pasting. */
+	private static final Transfer[]	TRANSFERS	= { TextTransfer.getInstance(), RTFTransfer.getInstance(),
+			HTMLTransfer.getInstance(), URLTransfer.getInstance(), FileTransfer.getInstance(), ImageTransfer.getInstance() };
+
+	private final Display	display;
+	private final Widget	widget;
+
+	/**
+	 * @param display the display.
+	 * @param widget the widget to paste into, may be <code>null</code>.
+	 */
+	ClipboardInput(Display display, Widget widget) {
+		this.display = display;
+		this.widget = widget;
+	}
+
+	/**
+	 * @return <code>true</code> if the widget can paste text, that is it has a <code>paste()</code> method.
+	 */
+	boolean canPaste() {
+		return (widget != null) && !widget.isDisposed() && (pasteMethod() != null);
+	}
+
+	/**
+	 * Pastes the text into the widget. The widget must be able to paste.
+	 *
+	 * @param text the text to paste, not empty.
+	 * @see #canPaste()
+	 */
+	void paste(final String text) {
+		UIThreadRunnable.syncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				Clipboard clipboard = new Clipboard(display);
+				try {
+					List<Object> contents = new ArrayList<Object>();
+					List<Transfer> transfers = new ArrayList<Transfer>();
+					for (Transfer transfer : TRANSFERS) {
+						Object content = clipboard.getContents(transfer);
+						if (content != null) {
+							contents.add(content);
+							transfers.add(transfer);
+						}
+					}
+					clipboard.setContents(new Object[] { text }, new Transfer[] { TextTransfer.getInstance() });
+					try {
+						pasteMethod().invoke(widget);
+					} catch (Exception e) {
+						try {
+							restore(clipboard, contents, transfers);
+						} catch (SWTException ignored) {
+							// report why the paste failed rather than why the restore failed
+						}
+						throw e;
+					}
+					restore(clipboard, contents, transfers);
+				} catch (Exception e) {
+					throw new RuntimeException("Could not paste into " + widget, e); //$NON-NLS-1$
+				} finally {
+					clipboard.dispose();
+				}
+			}
+		});
+	}
+
+	private void restore(Clipboard clipboard, List<Object> contents, List<Transfer> transfers) {
+		if (contents.isEmpty()) {
+			clipboard.clearContents();
+			return;
+		}
+		try {
+			clipboard.setContents(contents.toArray(), transfers.toArray(new Transfer[transfers.size()]));
+		} catch (IllegalArgumentException e) {
+			// some contents cannot be set back, such as an empty file list, restore the text only
+			int index = transfers.indexOf(TextTransfer.getInstance());
+			String previousText = index != -1 ? (String) contents.get(index) : null;
+			if ((previousText != null) && (previousText.length() > 0))
+				clipboard.setContents(new Object[] { previousText }, new Transfer[] { TextTransfer.getInstance() });
+			else
+				clipboard.clearContents();
+		}
+	}
+
+	private Method pasteMethod() {
+		return MethodCache.getMethod(widget.getClass(), "paste"); //$NON-NLS-1$
+	}
+}
@@ -20,8 +20,10 @@ import java.util.List;
 import org.apache.log4j.Logger;
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 
 /**
  * Represents a Keyboard. Allows for typing keys and pressing shortcuts. Pressing shortcuts is different from pressing
@@ -52,6 +54,8 @@ public class Keyboard {
 
 	private final KeyboardStrategy	strategy;
 
+	private final Widget			widget;
+
 	/**
 	 * Creates a new keyboard.
 	 */
@@ -65,7 +69,20 @@ public class Keyboard {
 	 * @param strategy the keyboard strategy.
 	 */
 	public Keyboard(KeyboardStrategy strategy) {
+		this(strategy, null);
+	}
+
+	/**
+	 * Creates a new keyboard that uses the specified strategy to type on the keyboard, and pastes into the specified
+	 * widget.
+	 *
+	 * @param strategy the keyboard strategy.
+	 * @param widget the widget that text is pasted into, may be <code>null</code>.
+	 * @see #pasteText(String)
+	 */
+	Keyboard(KeyboardStrategy strategy, Widget widget) {
 		this.strategy = strategy;
+		this.widget = widget;
 	}
 
 	/**
@@ -79,18 +96,78 @@ public class Keyboard {
 
 	/**
 	 * Types the string on the keyboard.
+	 * <p>
+	 * Strings at least {@link SWTBotPreferences#PASTE_THRESHOLD} characters long are pasted instead, if the widget of this
+	 * keyboard can paste and the string has no control characters such as <code>\n</code> or <code>\t</code>, which are
+	 * typed as keystrokes that may activate the default button or traverse the focus.
+	 * </p>
+	 * <p>
+	 * If the interval is not positive and the keyboard uses the {@link SWTKeyboardStrategy}, the keystrokes of the whole
+	 * string are posted in a single burst, and the display is synchronized once at the end.
+	 * </p>
 	 *
 	 * @param text the text to type on the keyboard.
 	 * @param interval the interval between the keystrokes.
 	 */
 	public void typeText(String text, int interval) {
+		if (SWTBotPreferences.PASTE_THRESHOLD > 0 && text.length() >= SWTBotPreferences.PASTE_THRESHOLD && !hasControlCharacters(text)) {
+			ClipboardInput clipboard = clipboardInput();
+			if (clipboard.canPaste()) {
+				log.debug(MessageFormat.format("Pasting text ''{0}''.", text));
+				clipboard.paste(text);
+				return;
+			}
+		}
 		log.debug(MessageFormat.format("Typing text ''{0}'' with an interval of {1}ms. between characters.", text, interval));
+		if (interval <= 0 && strategy instanceof SWTKeyboardStrategy) {
+			List<KeyStroke[]> shortcuts = new ArrayList<KeyStroke[]>(text.length());
+			for (int i = 0; i < text.length(); i++) {
+				shortcuts.add(Keystrokes.create(text.charAt(i)));
+			}
+			((SWTKeyboardStrategy) strategy).typeShortcuts(shortcuts);
+			return;
+		}
 		for (int i = 0; i < text.length(); i++) {
 			typeCharacter(text.charAt(i));
 			sleep(interval);
 		}
 	}
 
+	/**
+	 * Pastes the string through the clipboard.
+	 * <p>
+	 * The text is pasted by the widget of this keyboard if it has a <code>paste()</code> method, like text and styled
+	 * text widgets, which notifies the verify and modify listeners of the widget; the previous contents of the clipboard
+	 * are then restored. Otherwise the text is typed.
+	 * </p>
+	 *
+	 * @param text the text to paste.
+	 * @since 2.7
+	 */
+	public void pasteText(String text) {
+		if (text.length() == 0)
+			return;
+		ClipboardInput clipboard = clipboardInput();
+		if (!clipboard.canPaste()) {
+			typeText(text);
+			return;
+		}
+		log.debug(MessageFormat.format("Pasting text ''{0}''.", text));
+		clipboard.paste(text);
+	}
+
+	private ClipboardInput clipboardInput() {
+		return new ClipboardInput(SWTUtils.display(), widget);
+	}
+
+	private static boolean hasControlCharacters(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (Character.isISOControl(text.charAt(i)))
+				return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Types the character on the keyboard. Note that the character may refer to multiple keystrokes.
 	 *
@@ -52,7 +52,7 @@ public class KeyboardFactory {
 	 * @return the keyboard configured with the specified strategy.
 	 */
 	public Keyboard keyboard(Widget widget, SelfDescribing description) {
-		return new Keyboard(strategy(widget, description));
+		return new Keyboard(strategy(widget, description), widget);
 	}
 
 	private KeyboardStrategy strategy(Widget widget, SelfDescribing description) {
@@ -92,7 +92,7 @@ public class KeyboardFactory {
 	public static Keyboard getMockKeyboard(Widget widget, SelfDescribing description) {
 		MockKeyboardStrategy strategy = new MockKeyboardStrategy();
 		strategy.init(widget, description);
-		return new Keyboard(strategy);
+		return new Keyboard(strategy, widget);
 	}
 
 	/**
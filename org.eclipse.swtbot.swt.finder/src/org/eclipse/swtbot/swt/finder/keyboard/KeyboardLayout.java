@@ -14,6 +14,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.bindings.keys.ParseException;
@@ -24,18 +27,27 @@ import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 
 /**
  * Allows mapping of characters to {@link KeyStroke}s based on keyboard layouts.
+ * <p>
+ * Layouts are parsed once and cached by name. The keystrokes are compiled into a table indexed by character, so that
+ * looking up the keystroke of a character does not box the character.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
 public class KeyboardLayout {
-	private final BidiMap<Character, KeyStroke>	keyStrokes	= new BidiMap<Character, KeyStroke>();
-	private final String						layoutName;
+	private static final Map<String, KeyboardLayout>	layouts		= new HashMap<String, KeyboardLayout>();
+
+	private final BidiMap<Character, KeyStroke>			keyStrokes	= new BidiMap<Character, KeyStroke>();
+	private final String								layoutName;
+	/** The keystrokes indexed by character, <code>null</code> where the layout has no keystroke. */
+	private final KeyStroke[]							keyStrokeTable;
 
 	private KeyboardLayout(String name, URL resource) throws IOException {
 		this.layoutName = name;
 		initialiseDefaults();
 		parseKeyStrokes(resource);
+		this.keyStrokeTable = compileKeyStrokes();
 	}
 
 	@Override
@@ -54,9 +66,10 @@ public class KeyboardLayout {
 	 * @return the keystroke applicable corresponding to the character.
 	 */
 	public KeyStroke keyStrokeFor(char ch) {
-		KeyStroke keyStroke = keyStrokes.getValue(ch);
-		if (keyStroke != null) {
-			return keyStroke;
+		if (ch < keyStrokeTable.length) {
+			KeyStroke keyStroke = keyStrokeTable[ch];
+			if (keyStroke != null)
+				return keyStroke;
 		}
 		throw new IllegalArgumentException("no stroke available for character '" + ch + "'");
 	}
@@ -81,6 +94,17 @@ public class KeyboardLayout {
 	 * @return the keyboard layout corresponding to the specified layout.
 	 */
 	public static KeyboardLayout getKeyboardLayout(String layoutName) {
+		synchronized (layouts) {
+			KeyboardLayout layout = layouts.get(layoutName);
+			if (layout == null) {
+				layout = loadKeyboardLayout(layoutName);
+				layouts.put(layoutName, layout);
+			}
+			return layout;
+		}
+	}
+
+	private static KeyboardLayout loadKeyboardLayout(String layoutName) {
 		ClassLoader classLoader = KeyboardLayout.class.getClassLoader();
 		URL configURL = classLoader.getResource(toFolder(myPackage() + "." + layoutName) + ".keyboard");
 
@@ -119,6 +143,18 @@ public class KeyboardLayout {
 		keyStrokes.put(' ', KeyStroke.getInstance(0, ' '));
 	}
 
+	private KeyStroke[] compileKeyStrokes() {
+		char max = 0;
+		for (Entry<Character, KeyStroke> entry : keyStrokes) {
+			max = (char) Math.max(max, entry.getKey());
+		}
+		KeyStroke[] table = new KeyStroke[max + 1];
+		for (Entry<Character, KeyStroke> entry : keyStrokes) {
+			table[entry.getKey()] = entry.getValue();
+		}
+		return table;
+	}
+
 	private void parseKeyStrokes(URL resource) throws IOException {
 		String contents = FileUtils.read(resource);
 		BufferedReader in = new BufferedReader(new StringReader(contents));
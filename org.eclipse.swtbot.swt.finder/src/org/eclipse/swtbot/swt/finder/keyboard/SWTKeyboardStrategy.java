@@ -11,6 +11,7 @@
 package org.eclipse.swtbot.swt.finder.keyboard;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.jface.bindings.keys.KeyStroke;
@@ -18,6 +19,8 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.hamcrest.SelfDescribing;
@@ -58,6 +61,36 @@ public class SWTKeyboardStrategy extends AbstractKeyboardStrategy {
 		display.wake();
 	}
 
+	/**
+	 * Types the shortcuts in a single burst: the key events of all the shortcuts are posted one after the other without
+	 * waiting in between, and the display is synchronized once after the last event was posted.
+	 *
+	 * @param shortcuts the shortcuts to type, each split into keystrokes to be pressed in order and released in
+	 *            reverse order.
+	 */
+	void typeShortcuts(List<KeyStroke[]> shortcuts) {
+		// checked before posting anything, so that an invalid keystroke does not leave the text half typed
+		for (KeyStroke[] keys : shortcuts) {
+			assertKeys(keys);
+		}
+		for (KeyStroke[] keys : shortcuts) {
+			for (int i = 0; i < keys.length; i++) {
+				Assert.isTrue(display.post(keyEvent(keys[i], SWT.KeyDown)), "Could not post keyevent.");
+			}
+			for (int i = keys.length - 1; i >= 0; i--) {
+				Assert.isTrue(display.post(keyEvent(keys[i], SWT.KeyUp)), "Could not post keyevent.");
+			}
+		}
+		display.wake();
+		if (display.getThread() != Thread.currentThread())
+			UIThreadRunnable.syncExec(display, new VoidResult() {
+				@Override
+				public void run() {
+					// process the posted events before returning
+				}
+			});
+	}
+
 	private Event keyEvent(KeyStroke key, int type) {
 		Event e = new Event();
 		e.type = type;
@@ -11,7 +11,9 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.swt.widgets.Widget;
 import org.hamcrest.Description;
@@ -20,20 +22,38 @@ import org.hamcrest.Matcher;
 
 /**
  * A matcher that evaluates to <code>true</code> if and only if all the matchers evaluate to <code>true</code>.
+ * <p>
+ * The matchers are evaluated cheapest first, see {@link CostedMatcher}, and the matchers of nested {@link AllOf}
+ * matchers are evaluated as if they were given to this matcher.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
-public class AllOf<T> extends AbstractMatcher<T> {
+public class AllOf<T> extends AbstractMatcher<T> implements CostedMatcher {
 	private final Iterable<Matcher<? extends T>>	matchers;
+	/** The matchers, cheapest first. */
+	private final Matcher<?>[]						compiled;
+	private final Class<? extends Widget>			widgetType;
 
 	AllOf(Iterable<Matcher<? extends T>> matchers) {
 		this.matchers = matchers;
+		List<Matcher<?>> flattened = new ArrayList<Matcher<?>>();
+		for (Matcher<? extends T> matcher : matchers) {
+			if (matcher instanceof AllOf<?>)
+				flattened.addAll(Arrays.asList(((AllOf<?>) matcher).compiled));
+			else
+				flattened.add(matcher);
+		}
+		this.compiled = MatcherCompiler.compile(flattened).toArray(new Matcher<?>[flattened.size()]);
+		this.widgetType = MatcherCompiler.mostSpecificType(flattened);
 	}
 
 	@Override
 	protected boolean doMatch(Object o) {
-		for (Matcher<? extends T> matcher : matchers) {
+		if ((widgetType != null) && !widgetType.isInstance(o))
+			return false;
+		for (Matcher<?> matcher : compiled) {
 			if (!matcher.matches(o)) {
 				return false;
 			}
@@ -41,6 +61,20 @@ public class AllOf<T> extends AbstractMatcher<T> {
 		return true;
 	}
 
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return MatcherCompiler.maxCost(Arrays.asList(compiled));
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return widgetType;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendList("(", " and ", ")", matchers); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
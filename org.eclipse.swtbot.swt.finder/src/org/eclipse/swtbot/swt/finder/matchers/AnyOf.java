@@ -11,6 +11,7 @@
 package org.eclipse.swtbot.swt.finder.matchers;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.swt.widgets.Widget;
 import org.hamcrest.Description;
@@ -19,20 +20,28 @@ import org.hamcrest.Matcher;
 
 /**
  * A matcher that evaluates to <code>true</code> if any the matchers evaluate to <code>true</code>.
+ * <p>
+ * The matchers are evaluated cheapest first, see {@link CostedMatcher}.
+ * </p>
  *
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
-public class AnyOf<T> extends AbstractMatcher<T> {
+public class AnyOf<T> extends AbstractMatcher<T> implements CostedMatcher {
 	private final Iterable<Matcher<? extends T>>	matchers;
+	/** The matchers, cheapest first. */
+	private final List<Matcher<? extends T>>		compiled;
+	private final Class<? extends Widget>			widgetType;
 
 	AnyOf(Iterable<Matcher<? extends T>> matchers) {
 		this.matchers = matchers;
+		this.compiled = MatcherCompiler.compile(matchers);
+		this.widgetType = MatcherCompiler.commonType(compiled);
 	}
 
 	@Override
 	protected boolean doMatch(Object o) {
-		for (Matcher<? extends T> matcher : matchers) {
+		for (Matcher<? extends T> matcher : compiled) {
 			if (matcher.matches(o)) {
 				return true;
 			}
@@ -40,6 +49,20 @@ public class AnyOf<T> extends AbstractMatcher<T> {
 		return false;
 	}
 
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return MatcherCompiler.maxCost(compiled);
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return widgetType;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendList("(", " or ", ")", matchers); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
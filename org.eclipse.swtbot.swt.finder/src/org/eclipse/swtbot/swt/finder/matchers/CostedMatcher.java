@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * A matcher that tells how costly it is to evaluate, and which type of widget it can match.
+ * <p>
+ * {@link AllOf} and {@link AnyOf} evaluate the cheapest matchers first, and the finders skip the widgets that are not
+ * of the type a matcher can match without evaluating the matcher. Matchers that do not implement this interface are
+ * assumed to cost {@link #PROPERTY_COST} and to match any type of widget.
+ * </p>
+ *
+ * @see MatcherCompiler
+ * @version $Id$
+ * @since 2.7
+ */
+public interface CostedMatcher {
+
+	/** The cost of a matcher checking the class of the widget. */
+	int	TYPE_COST		= 0;
+	/** The cost of a matcher checking the style or data of the widget. */
+	int	STYLE_COST		= 10;
+	/** The cost of a matcher reading a property of the widget, such as its text, using reflection. */
+	int	PROPERTY_COST	= 100;
+	/** The cost of a matcher looking at other widgets, such as the label next to the widget. */
+	int	SEARCH_COST		= 1000;
+
+	/**
+	 * @return the cost of evaluating the matcher against a widget, one of the <code>*_COST</code> constants.
+	 */
+	int getCost();
+
+	/**
+	 * @return the type a widget must be an instance of to match, or <code>null</code> if the matcher may match any
+	 *         type of widget.
+	 */
+	Class<? extends Widget> getWidgetType();
+
+}
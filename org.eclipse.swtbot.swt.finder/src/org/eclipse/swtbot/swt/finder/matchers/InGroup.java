@@ -11,23 +11,37 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Widget;
-import org.eclipse.swtbot.swt.finder.finders.PathGenerator;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultParentResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IParentResolver;
+import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
-import org.eclipse.swtbot.swt.finder.utils.TreePath;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 
 /**
  * Tells if a particular widget is within a {@link Group} with the specified text.
+ * <p>
+ * Whether a widget is in a matching group is remembered for each ancestor in the data of the search, see
+ * {@link ControlFinder#currentSearch()}, so that the ancestors shared by the widgets of a search are checked once. To
+ * look up several widgets in the same group, searching the group only is faster still, see
+ * {@link org.eclipse.swtbot.swt.finder.SWTBotFactory#botInGroup(String)}.
+ * </p>
  *
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  * @since 2.0
  */
-public class InGroup<T extends Widget> extends AbstractMatcher<T> {
+public class InGroup<T extends Widget> extends AbstractMatcher<T> implements CostedMatcher {
 
 	/**
 	 * The mnemonic text matcher instance to use.
@@ -53,16 +67,64 @@ public class InGroup<T extends Widget> extends AbstractMatcher<T> {
 	}
 
 	@Override
-	protected boolean doMatch(Object obj) {
-		Widget previousWidget = SWTUtils.previousWidget((Widget) obj);
-		TreePath path = new PathGenerator().getPath((Widget) obj);
-		int segmentCount = path.getSegmentCount();
-		for (int i = 1; i < segmentCount; i++) {
-			previousWidget = (Widget) path.getSegment(segmentCount - i - 1);
-			if ((previousWidget instanceof Group) && matcher.matches(previousWidget))
-				return true;
+	protected boolean doMatch(final Object obj) {
+		Map<Object, Object> search = ControlFinder.currentSearch();
+		Ancestors checked = search != null ? (Ancestors) search.get(this) : null;
+		if (checked == null) {
+			checked = new Ancestors();
+			if (search != null)
+				search.put(this, checked);
+		}
+		final Ancestors result = checked;
+		return UIThreadRunnable.syncExec(SWTUtils.display(), new BoolResult() {
+			@Override
+			public Boolean run() {
+				return result.inGroup((Widget) obj);
+			}
+		});
+	}
+
+	/**
+	 * Remembers, for each ancestor checked during a search, whether it is a matching group or is in one.
+	 */
+	private class Ancestors {
+		private final IParentResolver		parentResolver	= new DefaultParentResolver();
+		private final Map<Widget, Boolean>	inGroup			= new IdentityHashMap<Widget, Boolean>();
+
+		/**
+		 * This must be invoked in the UI thread.
+		 */
+		boolean inGroup(Widget widget) {
+			List<Widget> unchecked = new ArrayList<Widget>();
+			Boolean known = null;
+			for (Widget parent = parentResolver.getParent(widget); parent != null; parent = parentResolver.getParent(parent)) {
+				known = inGroup.get(parent);
+				if (known != null)
+					break;
+				unchecked.add(parent);
+			}
+			boolean result = (known != null) && known.booleanValue();
+			for (int i = unchecked.size() - 1; i >= 0; i--) {
+				Widget ancestor = unchecked.get(i);
+				result = result || ((ancestor instanceof Group) && matcher.matches(ancestor));
+				inGroup.put(ancestor, result);
+			}
+			return result;
 		}
-		return false;
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return SEARCH_COST;
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return null;
 	}
 
 	@Override
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+
+/**
+ * Orders matchers by the cost of evaluating them, and computes the type of widget they can match.
+ *
+ * @see CostedMatcher
+ * @version $Id$
+ * @since 2.7
+ */
+public final class MatcherCompiler {
+
+	private static final Comparator<Matcher<?>>	BY_COST	= new Comparator<Matcher<?>>() {
+		public int compare(Matcher<?> m1, Matcher<?> m2) {
+			int c1 = cost(m1);
+			int c2 = cost(m2);
+			return c1 < c2 ? -1 : (c1 == c2 ? 0 : 1);
+		}
+	};
+
+	private MatcherCompiler() {
+	}
+
+	/**
+	 * @param matcher the matcher.
+	 * @return the cost of evaluating the matcher, {@link CostedMatcher#PROPERTY_COST} if the matcher does not tell.
+	 */
+	public static int cost(Matcher<?> matcher) {
+		if (matcher instanceof CostedMatcher)
+			return ((CostedMatcher) matcher).getCost();
+		return CostedMatcher.PROPERTY_COST;
+	}
+
+	/**
+	 * @param matcher the matcher.
+	 * @return the type a widget must be an instance of to match, or <code>null</code> if the matcher does not tell.
+	 */
+	public static Class<? extends Widget> widgetType(Matcher<?> matcher) {
+		if (matcher instanceof CostedMatcher)
+			return ((CostedMatcher) matcher).getWidgetType();
+		return null;
+	}
+
+	/**
+	 * Checks if an object may match a matcher, without evaluating the matcher.
+	 *
+	 * @param matcher the matcher.
+	 * @param object the object.
+	 * @return <code>false</code> if the object cannot match the matcher, <code>true</code> if it may.
+	 */
+	public static boolean mayMatch(Matcher<?> matcher, Object object) {
+		Class<? extends Widget> type = widgetType(matcher);
+		return (type == null) || type.isInstance(object);
+	}
+
+	/**
+	 * Orders matchers cheapest first. Matchers of the same cost keep their order.
+	 *
+	 * @param matchers the matchers.
+	 * @return the matchers, in the order they should be evaluated.
+	 */
+	public static <T> List<Matcher<? extends T>> compile(Iterable<Matcher<? extends T>> matchers) {
+		List<Matcher<? extends T>> compiled = new ArrayList<Matcher<? extends T>>();
+		for (Matcher<? extends T> matcher : matchers)
+			compiled.add(matcher);
+		Collections.sort(compiled, BY_COST);
+		return compiled;
+	}
+
+	/**
+	 * @param matchers the matchers.
+	 * @return the highest cost of the matchers.
+	 */
+	static int maxCost(Iterable<? extends Matcher<?>> matchers) {
+		int cost = CostedMatcher.TYPE_COST;
+		for (Matcher<?> matcher : matchers)
+			cost = Math.max(cost, cost(matcher));
+		return cost;
+	}
+
+	/**
+	 * @param matchers the matchers.
+	 * @return the most specific type a widget must be an instance of to match all the matchers, or <code>null</code>
+	 *         if none of the matchers tell.
+	 */
+	static Class<? extends Widget> mostSpecificType(Iterable<? extends Matcher<?>> matchers) {
+		Class<? extends Widget> type = null;
+		for (Matcher<?> matcher : matchers) {
+			Class<? extends Widget> other = widgetType(matcher);
+			if ((other != null) && ((type == null) || type.isAssignableFrom(other)))
+				type = other;
+		}
+		return type;
+	}
+
+	/**
+	 * @param matchers the matchers.
+	 * @return the most specific type a widget must be an instance of to match any of the matchers, or
+	 *         <code>null</code> if one of the matchers does not tell.
+	 */
+	@SuppressWarnings("unchecked")
+	static Class<? extends Widget> commonType(Iterable<? extends Matcher<?>> matchers) {
+		Class<?> type = null;
+		for (Matcher<?> matcher : matchers) {
+			Class<? extends Widget> other = widgetType(matcher);
+			if (other == null)
+				return null;
+			if (type == null)
+				type = other;
+			while (!type.isAssignableFrom(other))
+				type = type.getSuperclass();
+		}
+		return (Class<? extends Widget>) type;
+	}
+}
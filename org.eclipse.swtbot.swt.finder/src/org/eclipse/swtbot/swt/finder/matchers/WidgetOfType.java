@@ -23,7 +23,7 @@ import org.hamcrest.Matcher;
  * @version $Id$
  * @since 2.0
  */
-public class WidgetOfType<T extends Widget> extends AbstractMatcher<T> {
+public class WidgetOfType<T extends Widget> extends AbstractMatcher<T> implements CostedMatcher {
 
 	/**
 	 * The type of widget to match.
@@ -44,6 +44,20 @@ public class WidgetOfType<T extends Widget> extends AbstractMatcher<T> {
 		return type.isInstance(obj);
 	}
 
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return TYPE_COST;
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return type;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("of type '").appendText(type.getSimpleName()).appendText("'"); //$NON-NLS-1$ //$NON-NLS-2$
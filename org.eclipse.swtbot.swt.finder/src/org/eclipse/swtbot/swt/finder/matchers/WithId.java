@@ -13,6 +13,7 @@ package org.eclipse.swtbot.swt.finder.matchers;
 
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
@@ -25,7 +26,7 @@ import org.hamcrest.Matcher;
  * @version $Id$
  * @since 2.0
  */
-public class WithId<T extends Widget> extends AbstractMatcher<T> {
+public class WithId<T extends Widget> extends AbstractMatcher<T> implements CostedMatcher {
 
 	/**
 	 * The key to use while matching widgets.
@@ -50,6 +51,12 @@ public class WithId<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(final Object obj) {
+		WidgetSnapshot snapshot = WidgetSnapshot.current();
+		if (snapshot != null) {
+			Object captured = snapshot.getData(obj, key);
+			if (captured != WidgetSnapshot.NOT_CAPTURED)
+				return value.equals(captured);
+		}
 		String data = UIThreadRunnable.syncExec(new Result<String>() {
 			@Override
 			public String run() {
@@ -59,6 +66,20 @@ public class WithId<T extends Widget> extends AbstractMatcher<T> {
 		return value.equals(data);
 	}
 
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return STYLE_COST;
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return null;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("with key/value (").appendText(key).appendText("/").appendText(value).appendText(")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -11,8 +11,9 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
 
 import org.eclipse.swt.custom.CLabel;
 import org.eclipse.swt.widgets.Label;
@@ -31,13 +32,18 @@ import org.hamcrest.core.IsAnything;
  * <p>
  * <b>NOTE:</b> This will <em>drill upwards</em> in the widget hierarchy in an attempt to find the label for a widget.
  * </p>
+ * <p>
+ * A widget has the label if a label with the text precedes it among the controls of the active shell. The controls
+ * are listed and the first label with the text is looked up once per search, and kept in the data of the search, see
+ * {@link ControlFinder#currentSearch()}, so that matching all the widgets of a shell takes one pass over the shell.
+ * </p>
  *
  * @see WithMnemonic
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  * @since 2.0
  */
-public class WithLabel<T extends Widget> extends AbstractMatcher<T> {
+public class WithLabel<T extends Widget> extends AbstractMatcher<T> implements CostedMatcher {
 
 	/**
 	 * The mnemonic text matcher instance to use.
@@ -60,23 +66,51 @@ public class WithLabel<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
-		List<? extends Widget> allWidgets = finder.findControls(new IsAnything<Widget>());
+		Map<Object, Object> search = ControlFinder.currentSearch();
+		LabelIndex labelIndex = search != null ? (LabelIndex) search.get(this) : null;
+		if (labelIndex == null) {
+			labelIndex = new LabelIndex(finder.findControls(new IsAnything<Widget>()));
+			if (search != null)
+				search.put(this, labelIndex);
+		}
+		Integer widgetIndex = labelIndex.positions.get(obj);
+		return (widgetIndex != null) && (labelIndex.firstLabel >= 0) && (widgetIndex.intValue() > labelIndex.firstLabel);
+	}
 
-		int widgetIndex = allWidgets.indexOf(obj);
+	private boolean isLabel(Widget widget) {
+		return widget instanceof Label || widget instanceof CLabel;
+	}
 
-		ListIterator<? extends Widget> listIterator = allWidgets.listIterator(widgetIndex);
+	/**
+	 * The positions of the controls of the active shell, and the position of the first label with the text.
+	 */
+	private class LabelIndex {
+		private final Map<Widget, Integer>	positions	= new IdentityHashMap<Widget, Integer>();
+		private int							firstLabel	= -1;
 
-		while (listIterator.hasPrevious()) {
-			Widget previousWidget = listIterator.previous();
-			if ((isLabel(previousWidget)) && mnemonicTextMatcher.matches(previousWidget))
-				return true;
+		LabelIndex(List<? extends Widget> widgets) {
+			for (int i = 0; i < widgets.size(); i++) {
+				Widget widget = widgets.get(i);
+				if (!positions.containsKey(widget))
+					positions.put(widget, i);
+				if ((firstLabel < 0) && isLabel(widget) && mnemonicTextMatcher.matches(widget))
+					firstLabel = i;
+			}
 		}
+	}
 
-		return false;
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return SEARCH_COST;
 	}
 
-	private boolean isLabel(Widget widget) {
-		return widget instanceof Label || widget instanceof CLabel;
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return null;
 	}
 
 	@Override
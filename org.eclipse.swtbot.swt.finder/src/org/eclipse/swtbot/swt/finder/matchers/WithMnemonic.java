@@ -15,6 +15,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -74,6 +75,8 @@ public class WithMnemonic<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (!MethodCache.hasMethod(obj, "getText")) //$NON-NLS-1$
+			return false;
 		try {
 			boolean result = false;
 			if (ignoreCase)
@@ -14,6 +14,7 @@ package org.eclipse.swtbot.swt.finder.matchers;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -41,6 +42,8 @@ public class WithRegex<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (!MethodCache.hasMethod(obj, "getText")) //$NON-NLS-1$
+			return false;
 		try {
 			return pattern.matcher(WithText.getText(obj)).matches();
 		} catch (Exception e) {
@@ -25,7 +25,7 @@ import org.hamcrest.Matcher;
  * @version $Id$
  * @since 2.0
  */
-public class WithStyle<T extends Widget> extends AbstractMatcher<T> {
+public class WithStyle<T extends Widget> extends AbstractMatcher<T> implements CostedMatcher {
 
 	private final int		style;
 	private final String	styleDescription;
@@ -46,6 +46,20 @@ public class WithStyle<T extends Widget> extends AbstractMatcher<T> {
 		return SWTUtils.hasStyle((Widget) obj, style);
 	}
 
+	/**
+	 * @since 2.7
+	 */
+	public int getCost() {
+		return STYLE_COST;
+	}
+
+	/**
+	 * @since 2.7
+	 */
+	public Class<? extends Widget> getWidgetType() {
+		return null;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("with style '").appendText(styleDescription).appendText("'"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -14,9 +14,10 @@ package org.eclipse.swtbot.swt.finder.matchers;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.eclipse.swtbot.swt.finder.utils.internal.LineDelimiter;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -66,6 +67,8 @@ public class WithText<T extends Widget> extends AbstractMatcher<T> {
 	// FIXME: optimize the if() code block, use strategy or something else.
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (!MethodCache.hasMethod(obj, "getText")) //$NON-NLS-1$
+			return false;
 		try {
 			boolean result = false;
 			if (ignoreCase)
@@ -91,7 +94,7 @@ public class WithText<T extends Widget> extends AbstractMatcher<T> {
 	 * @see Method#invoke(Object, Object[])
 	 */
 	static String getText(Object obj) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-		return ((String) SWTUtils.invokeMethod(obj, "getText")).replaceAll(Text.DELIMITER, "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return LineDelimiter.normalize((String) SWTUtils.invokeMethod(obj, "getText")); //$NON-NLS-1$
 	}
 
 	@Override
@@ -15,9 +15,10 @@ package org.eclipse.swtbot.swt.finder.matchers;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
-import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.eclipse.swtbot.swt.finder.utils.internal.LineDelimiter;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -67,6 +68,8 @@ public class WithTooltip<T extends Widget> extends AbstractMatcher<T> {
 	// FIXME: optimize the if() code block, use strategy or something else.
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (!MethodCache.hasMethod(obj, "getToolTipText")) //$NON-NLS-1$
+			return false;
 		try {
 			boolean result = false;
 			if (ignoreCase)
@@ -94,7 +97,7 @@ public class WithTooltip<T extends Widget> extends AbstractMatcher<T> {
 	private static String getToolTip(Object obj) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
 		Object tooltipText = SWTUtils.invokeMethod(obj, "getToolTipText"); //$NON-NLS-1$
 		if (tooltipText instanceof String)
-			return ((String) tooltipText).replaceAll(Text.DELIMITER, "\n"); //$NON-NLS-1$
+			return LineDelimiter.normalize((String) tooltipText);
 		return "";
 	}
 
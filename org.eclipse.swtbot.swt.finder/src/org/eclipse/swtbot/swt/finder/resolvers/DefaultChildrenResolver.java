@@ -11,7 +11,7 @@
 package org.eclipse.swtbot.swt.finder.resolvers;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.swt.widgets.Widget;
@@ -22,33 +22,45 @@ import org.eclipse.swt.widgets.Widget;
  */
 public class DefaultChildrenResolver extends Resolvable implements IChildrenResolver {
 
+	/**
+	 * Gets the children of the widget from the first resolver that can provide them. The resolvers of the widget are
+	 * looked up only once.
+	 *
+	 * @param w the widget
+	 * @return a new list of the children of the widget, which may be empty.
+	 */
 	@Override
 	public List<Widget> getChildren(Widget w) {
-		List<Widget> result = new ArrayList<Widget>();
-
-		if (!hasChildren(w))
-			return result;
-
-		List<IResolvable> resolvers = resolver.getResolvers(w.getClass());
+		return new ArrayList<Widget>(resolveChildren(w));
+	}
 
-		for (Iterator<IResolvable> iterator = resolvers.iterator(); iterator.hasNext();) {
-			IChildrenResolver resolver = (IChildrenResolver) iterator.next();
+	/**
+	 * Gets the children of the widget from the first resolver that can provide them, without copying them. The
+	 * resolvers of the widget are looked up only once, and nothing is allocated when the widget has no children.
+	 *
+	 * @param w the widget
+	 * @return the children of the widget as returned by the resolver, or an empty list. The list must not be modified.
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 2.7
+	 */
+	public List<Widget> resolveChildren(Widget w) {
+		List<IResolvable> resolvers = resolver.cachedResolvers(w.getClass());
+		for (int i = 0; i < resolvers.size(); i++) {
+			IChildrenResolver resolver = (IChildrenResolver) resolvers.get(i);
 			if (resolver.canResolve(w) && resolver.hasChildren(w)) {
 				List<Widget> children = resolver.getChildren(w);
-				if (children != null) {
-					result.addAll(children);
-					return result;
-				}
+				if (children != null)
+					return children;
 			}
 		}
-		return result;
+		return Collections.emptyList();
 	}
 
 	@Override
 	public boolean hasChildren(Widget w) {
-		List<IResolvable> resolvers = resolver.getResolvers(w.getClass());
-		for (Iterator<IResolvable> iterator = resolvers.iterator(); iterator.hasNext();) {
-			IChildrenResolver resolver = (IChildrenResolver) iterator.next();
+		List<IResolvable> resolvers = resolver.cachedResolvers(w.getClass());
+		for (int i = 0; i < resolvers.size(); i++) {
+			IChildrenResolver resolver = (IChildrenResolver) resolvers.get(i);
 			if (resolver.canResolve(w) && resolver.hasChildren(w))
 				return true;
 		}
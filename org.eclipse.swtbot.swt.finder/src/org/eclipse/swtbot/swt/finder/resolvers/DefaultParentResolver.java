@@ -26,7 +26,7 @@ public class DefaultParentResolver extends Resolvable implements IParentResolver
 		if (!hasParent(w))
 			return null;
 
-		List<IResolvable> resolvers = getResolver().getResolvers(w.getClass());
+		List<IResolvable> resolvers = getResolver().cachedResolvers(w.getClass());
 
 		for (Iterator<IResolvable> iter = resolvers.iterator(); iter.hasNext();) {
 			IParentResolver resolver = (IParentResolver) iter.next();
@@ -39,7 +39,7 @@ public class DefaultParentResolver extends Resolvable implements IParentResolver
 	@Override
 	public boolean hasParent(Widget w) {
 
-		List<IResolvable> resolvers = getResolver().getResolvers(w.getClass());
+		List<IResolvable> resolvers = getResolver().cachedResolvers(w.getClass());
 
 		for (Iterator<IResolvable> iter = resolvers.iterator(); iter.hasNext();) {
 			IParentResolver resolver = (IParentResolver) iter.next();
@@ -12,8 +12,11 @@ package org.eclipse.swtbot.swt.finder.resolvers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.swtbot.swt.finder.utils.MultiValueMap;
@@ -28,7 +31,10 @@ import org.eclipse.swtbot.swt.finder.utils.MultiValueMap;
 public class Resolver {
 
 	/** The map that maps classes to {@link IChildrenResolver}s */
-	private final MultiValueMap<Class<?>, IResolvable>	map	= new MultiValueMap<Class<?>, IResolvable>();
+	private final MultiValueMap<Class<?>, IResolvable>	map		= new MultiValueMap<Class<?>, IResolvable>();
+
+	/** The resolvers found for each class, cleared when a resolver is added */
+	private final Map<Class<?>, List<IResolvable>>		cache	= new HashMap<Class<?>, List<IResolvable>>();
 
 	/**
 	 * Map all the classes that the resolver resolver to the resolver.
@@ -46,20 +52,38 @@ public class Resolver {
 	 * Gets the resolvers that match the given class.
 	 *
 	 * @param clazz the class that should be resolved using the resolvers.
-	 * @return the list of {@link Resolver}s that can resolve objects of type <code>clazz</code>
+	 * @return a new list of {@link Resolver}s that can resolve objects of type <code>clazz</code>
 	 */
 	public List<IResolvable> getResolvers(Class<?> clazz) {
+		return new ArrayList<IResolvable>(cachedResolvers(clazz));
+	}
 
-		LinkedHashSet<IResolvable> result = new LinkedHashSet<IResolvable>();
-
-		Collection<IResolvable> resolvers = map.getCollection(clazz);
-
-		if ((resolvers != null) && !resolvers.isEmpty())
-			result.addAll(resolvers);
-		else if (!Object.class.equals(clazz))
-			result.addAll(getResolvers(clazz.getSuperclass()));
+	/**
+	 * Gets the resolvers that match the given class, without copying them. The resolvers of a class are looked up once
+	 * and remembered until {@link #addResolver(IResolvable)} is next invoked.
+	 *
+	 * @param clazz the class that should be resolved using the resolvers.
+	 * @return the shared list of {@link Resolver}s that can resolve objects of type <code>clazz</code>, it can not be
+	 *         modified.
+	 */
+	List<IResolvable> cachedResolvers(Class<?> clazz) {
+		synchronized (cache) {
+			List<IResolvable> result = cache.get(clazz);
+			if (result == null) {
+				result = Collections.unmodifiableList(new ArrayList<IResolvable>(findResolvers(clazz)));
+				cache.put(clazz, result);
+			}
+			return result;
+		}
+	}
 
-		return new ArrayList<IResolvable>(result);
+	private Collection<IResolvable> findResolvers(Class<?> clazz) {
+		for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+			Collection<IResolvable> resolvers = map.getCollection(type);
+			if (!resolvers.isEmpty())
+				return resolvers;
+		}
+		return new LinkedHashSet<IResolvable>();
 	}
 
 	/**
@@ -69,13 +93,18 @@ public class Resolver {
 	 * @param resolvableClasses The classes supported by the resolver.
 	 */
 	private void addResolver(IResolvable resolver, Class<?>[] resolvableClasses) {
-		for (Class<?> clazz : resolvableClasses) {
-			map.put(clazz, resolver);
+		synchronized (cache) {
+			for (Class<?> clazz : resolvableClasses) {
+				map.put(clazz, resolver);
+			}
+			cache.clear();
 		}
 	}
 
 	Class<?>[] getResolvableClasses() {
-		Set<Class<?>> keySet = map.keySet();
-		return keySet.toArray(new Class[keySet.size()]);
+		synchronized (cache) {
+			Set<Class<?>> keySet = map.keySet();
+			return keySet.toArray(new Class[keySet.size()]);
+		}
 	}
 }
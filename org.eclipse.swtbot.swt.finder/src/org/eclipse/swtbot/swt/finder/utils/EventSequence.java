@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * An ordered list of events to be sent to widgets, such as the MouseEnter..FocusOut sequence of a click.
+ * <p>
+ * The events of a sequence are dispatched in order. When {@link SWTBotPreferences#BATCH_EVENTS} is set, they are all
+ * enqueued at once and the caller waits only once for all of them to be dispatched, so the runnables the listeners post
+ * with asyncExec run after the last event rather than before the next one.
+ * </p>
+ *
+ * @see org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBot#notify(EventSequence)
+ * @version $Id$
+ * @since 2.7
+ */
+public final class EventSequence {
+
+	private final List<Event>	events	= new ArrayList<Event>();
+	private final List<Widget>	widgets	= new ArrayList<Widget>();
+
+	/**
+	 * Adds an event to the end of this sequence.
+	 *
+	 * @param eventType the type of event.
+	 * @param event the event to send, its type is set to eventType.
+	 * @param widget the widget to send the event to.
+	 * @return this sequence.
+	 */
+	public EventSequence add(int eventType, Event event, Widget widget) {
+		event.type = eventType;
+		events.add(event);
+		widgets.add(widget);
+		return this;
+	}
+
+	/**
+	 * @return the number of events in this sequence.
+	 */
+	public int size() {
+		return events.size();
+	}
+
+	/**
+	 * @param index the index of the event.
+	 * @return the type of the event.
+	 */
+	public int type(int index) {
+		return events.get(index).type;
+	}
+
+	/**
+	 * @param index the index of the event.
+	 * @return the event.
+	 */
+	public Event event(int index) {
+		return events.get(index);
+	}
+
+	/**
+	 * @param index the index of the event.
+	 * @return the widget to send the event to.
+	 */
+	public Widget widget(int index) {
+		return widgets.get(index);
+	}
+}
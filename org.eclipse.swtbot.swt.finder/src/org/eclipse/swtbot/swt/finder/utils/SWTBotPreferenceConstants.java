@@ -22,11 +22,23 @@ public interface SWTBotPreferenceConstants {
 	public static final String	KEY_DEFAULT_KEY					= "org.eclipse.swtbot.search.defaultKey";
 	/** @see SWTBotPreferences#TIMEOUT */
 	public static final String	KEY_TIMEOUT						= "org.eclipse.swtbot.search.timeout";
+	/** @see SWTBotPreferences#SNAPSHOT_SEARCH */
+	public static final String	KEY_SNAPSHOT_SEARCH				= "org.eclipse.swtbot.search.snapshot";
+	/** @see SWTBotPreferences#WIDGET_CACHE */
+	public static final String	KEY_WIDGET_CACHE				= "org.eclipse.swtbot.search.cache";
 
 	/** @see SWTBotPreferences#PLAYBACK_DELAY */
 	public static final String	KEY_PLAYBACK_DELAY				= "org.eclipse.swtbot.playback.delay";
+	/** @see SWTBotPreferences#DRAIN_EVENTS */
+	public static final String	KEY_DRAIN_EVENTS				= "org.eclipse.swtbot.playback.drain";
+	/** @see SWTBotPreferences#BATCH_EVENTS */
+	public static final String	KEY_BATCH_EVENTS				= "org.eclipse.swtbot.playback.batch";
 	/** @see SWTBotPreferences#DEFAULT_POLL_DELAY */
 	public static final String	KEY_DEFAULT_POLL_DELAY			= "org.eclipse.swtbot.playback.poll.delay";
+	/** @see SWTBotPreferences#WAIT_STRATEGY */
+	public static final String	KEY_WAIT_STRATEGY				= "org.eclipse.swtbot.wait.strategy";
+	/** @see SWTBotPreferences#INSTRUMENTATION */
+	public static final String	KEY_INSTRUMENTATION				= "org.eclipse.swtbot.instrumentation";
 
 	/** @see SWTBotPreferences#MAX_ERROR_SCREENSHOT_COUNT */
 	public static final String	KEY_MAX_ERROR_SCREENSHOT_COUNT	= "org.eclipse.swtbot.screenshots.error.maxcount";
@@ -34,11 +46,15 @@ public interface SWTBotPreferenceConstants {
 	public static final String	KEY_SCREENSHOTS_DIR				= "org.eclipse.swtbot.screenshots.dir";
 	/** @see SWTBotPreferences#SCREENSHOT_FORMAT */
 	public static final String	KEY_SCREENSHOT_FORMAT			= "org.eclipse.swtbot.screenshots.format";
+	/** @see SWTBotPreferences#SCREENSHOT_ACTIVE_SHELL */
+	public static final String	KEY_SCREENSHOT_ACTIVE_SHELL		= "org.eclipse.swtbot.screenshots.activeshell";
 
 	/** @see SWTBotPreferences#KEYBOARD_LAYOUT */
 	public static final String	KEY_KEYBOARD_LAYOUT				= "org.eclipse.swtbot.keyboard.layout";
 	/** @see SWTBotPreferences#TYPE_INTERVAL */
 	public static final String	KEY_TYPE_INTERVAL				= "org.eclipse.swtbot.keyboard.interval";
+	/** @see SWTBotPreferences#PASTE_THRESHOLD */
+	public static final String	KEY_PASTE_THRESHOLD				= "org.eclipse.swtbot.keyboard.paste.threshold";
 	/** @see SWTBotPreferences#KEYBOARD_STRATEGY */
 	public static final String	KEY_KEYBOARD_STRATEGY			= "org.eclipse.swtbot.keyboard.strategy";
 
@@ -16,10 +16,15 @@ import java.awt.im.InputContext;
 import java.util.Locale;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.finders.WidgetCache;
 import org.eclipse.swtbot.swt.finder.keyboard.Keyboard;
 import org.eclipse.swtbot.swt.finder.keyboard.KeyboardStrategy;
 import org.eclipse.swtbot.swt.finder.waits.ICondition;
+import org.eclipse.swtbot.swt.finder.waits.WaitStrategy;
 
 /**
  * Holds the preferences for the SWT Bot.
@@ -43,12 +48,54 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 	 */
 	public static long			TIMEOUT						= toLong(System.getProperty(KEY_TIMEOUT, "5000"), 5000);
 
+	/**
+	 * Whether widget searches evaluate matchers against a snapshot of the widgets captured in one pass on the UI thread.
+	 * Defaults to <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_SNAPSHOT_SEARCH}.
+	 *
+	 * @see ControlFinder#shouldUseSnapshot
+	 * @since 2.7
+	 */
+	public static boolean		SNAPSHOT_SEARCH				= Boolean.valueOf(System.getProperty(KEY_SNAPSHOT_SEARCH, "false"));
+
+	/**
+	 * Whether bots remember the controls they found, and return them again without searching while they are still
+	 * valid. Defaults to <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_WIDGET_CACHE}.
+	 *
+	 * @see WidgetCache
+	 * @since 2.7
+	 */
+	public static boolean		WIDGET_CACHE				= Boolean.valueOf(System.getProperty(KEY_WIDGET_CACHE, "false"));
+
 	/**
 	 * The speed of playback in milliseconds. Defaults to 0. To set another default, use the system property {@code
 	 * org.eclipse.swtbot.playback.delay}.
 	 */
 	public static long			PLAYBACK_DELAY				= toLong(System.getProperty(KEY_PLAYBACK_DELAY, "0"), 0);
 
+	/**
+	 * Whether bots wait after sending events to a widget until the display is idle, so that the runnables the listeners
+	 * of the widget post with {@link Display#asyncExec(Runnable)} have run when the action returns. Defaults to <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_DRAIN_EVENTS}.
+	 *
+	 * @see UIThreadRunnable#drainEvents(Display, long)
+	 * @since 2.7
+	 */
+	public static boolean		DRAIN_EVENTS				= Boolean.valueOf(System.getProperty(KEY_DRAIN_EVENTS, "false"));
+
+	/**
+	 * Whether bots send the events of a click or a double click all at once and wait only once for them to be
+	 * dispatched. This changes the order of the runnables the listeners post with {@link Display#asyncExec(Runnable)}:
+	 * they run after the whole sequence of events instead of before the next event. Defaults to <code>false</code>,
+	 * which waits after each event. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_BATCH_EVENTS}.
+	 *
+	 * @see EventSequence
+	 * @since 2.7
+	 */
+	public static boolean		BATCH_EVENTS				= Boolean.valueOf(System.getProperty(KEY_BATCH_EVENTS, "false"));
+
 	/**
 	 * The maximum number of screenshots that SWTBot should capture. Defaults to 100. To set another default use the
 	 * system property
@@ -69,6 +116,15 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 	 */
 	public static String		SCREENSHOT_FORMAT			= System.getProperty(KEY_SCREENSHOT_FORMAT, "jpeg");
 
+	/**
+	 * Whether screenshots captured on test failures show only the active shell instead of the whole display. Defaults to
+	 * <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_SCREENSHOT_ACTIVE_SHELL}.
+	 *
+	 * @since 2.7
+	 */
+	public static boolean		SCREENSHOT_ACTIVE_SHELL		= Boolean.valueOf(System.getProperty(KEY_SCREENSHOT_ACTIVE_SHELL, "false"));
+
 	/**
 	 * The keyboard layout. This value is autodetected at runtime. This can be set using the system property
 	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_KEYBOARD_LAYOUT}.
@@ -107,9 +163,21 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 
 	/**
 	 * The the time interval in milliseconds between typing characters in a string. Defaults to 50ms. To set another
-	 * default use the system property {@code org.eclipse.swtbot.keyboard.interval}.
+	 * default use the system property {@code org.eclipse.swtbot.keyboard.interval}. An interval of 0 types the whole
+	 * string in a single burst when using the {@link org.eclipse.swtbot.swt.finder.keyboard.SWTKeyboardStrategy}.
 	 */
 	public static int			TYPE_INTERVAL				= toInt(System.getProperty(KEY_TYPE_INTERVAL, "50"), 50);
+
+	/**
+	 * The length from which text is pasted through the clipboard instead of being typed character by character.
+	 * Shorter text, text with control characters such as line breaks or tabs, and text typed into widgets that cannot
+	 * paste are still typed. Defaults to 0, which always types the text. To set another default use the system
+	 * property {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_PASTE_THRESHOLD}.
+	 *
+	 * @see Keyboard#pasteText(String)
+	 * @since 2.7
+	 */
+	public static int			PASTE_THRESHOLD				= toInt(System.getProperty(KEY_PASTE_THRESHOLD, "0"), 0);
 	/**
 	 * The default keyboard strategy. Defaults to org.eclipse.swtbot.swt.finder.keyboard.AWTKeyboardStrategy. To set
 	 * another default use the system property {@code org.eclipse.swtbot.keyboard.strategy}. This property must be set
@@ -131,6 +199,31 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 	 */
 	public static final long	DEFAULT_POLL_DELAY			= toLong(System.getProperty(KEY_DEFAULT_POLL_DELAY, "500"), 500);
 
+	/**
+	 * The default strategy used to wait for conditions. Defaults to
+	 * org.eclipse.swtbot.swt.finder.waits.PollingWaitStrategy, set it to
+	 * org.eclipse.swtbot.swt.finder.waits.EventDrivenWaitStrategy to re-evaluate conditions as soon as the display
+	 * changes. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_WAIT_STRATEGY}. This property must be
+	 * set to a class implementing {@link WaitStrategy}.
+	 *
+	 * @see WaitStrategy
+	 * @see SWTBot#setWaitStrategy(WaitStrategy)
+	 * @since 2.7
+	 */
+	public static String		WAIT_STRATEGY				= System.getProperty(KEY_WAIT_STRATEGY,
+																	"org.eclipse.swtbot.swt.finder.waits.PollingWaitStrategy");
+
+	/**
+	 * Whether the SWTBot JUnit runners report the time spent and the number of calls made in SWTBot operations after
+	 * each test. Defaults to <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_INSTRUMENTATION}.
+	 *
+	 * @see org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation
+	 * @since 2.7
+	 */
+	public static boolean		INSTRUMENTATION				= Boolean.valueOf(System.getProperty(KEY_INSTRUMENTATION, "false"));
+
 	private static long toLong(String timeoutValue, long defaultValue) {
 		try {
 			Long timeout = Long.valueOf(timeoutValue);
@@ -33,19 +33,21 @@ import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Shell;
-import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.eclipse.swtbot.swt.finder.results.Result;
-import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.utils.internal.LineDelimiter;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodCache;
 import org.eclipse.swtbot.swt.finder.utils.internal.NextWidgetFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.PreviousWidgetFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.ReflectionInvoker;
 import org.eclipse.swtbot.swt.finder.utils.internal.SiblingFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.WidgetIndexFinder;
 import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
+import org.eclipse.swtbot.swt.finder.waits.EventDrivenWaitStrategy;
 import org.eclipse.swtbot.swt.finder.waits.ICondition;
 import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
 
@@ -119,9 +121,10 @@ public abstract class SWTUtils {
 	public static String getText(final Object obj) {
 		if ((obj instanceof Widget) && !((Widget) obj).isDisposed()) {
 			Widget widget = (Widget) obj;
-			String text = UIThreadRunnable.syncExec(widget.getDisplay(), new ReflectionInvoker(obj, "getText")); //$NON-NLS-1$
-			text = text.replaceAll(Text.DELIMITER, "\n"); //$NON-NLS-1$
-			return text;
+			String text = captured(obj, "getText"); //$NON-NLS-1$
+			if (text == null)
+				text = UIThreadRunnable.syncExec(widget.getDisplay(), new ReflectionInvoker(obj, "getText")); //$NON-NLS-1$
+			return LineDelimiter.normalize(text);
 		}
 		return ""; //$NON-NLS-1$
 	}
@@ -136,11 +139,34 @@ public abstract class SWTUtils {
 	public static String getToolTipText(final Object obj) {
 		if ((obj instanceof Widget) && !((Widget) obj).isDisposed()) {
 			Widget widget = (Widget) obj;
+			String captured = captured(obj, "getToolTipText"); //$NON-NLS-1$
+			if (captured != null)
+				return captured;
 			return UIThreadRunnable.syncExec(widget.getDisplay(), new ReflectionInvoker(obj, "getToolTipText")); //$NON-NLS-1$
 		}
 		return ""; //$NON-NLS-1$
 	}
 
+	/**
+	 * @param obj the widget.
+	 * @param methodName the method name.
+	 * @return the value captured by the current {@link WidgetSnapshot}, converted the way {@link ReflectionInvoker}
+	 *         converts it, or <code>null</code> if the value was not captured.
+	 */
+	private static String captured(Object obj, String methodName) {
+		WidgetSnapshot snapshot = WidgetSnapshot.current();
+		if (snapshot == null)
+			return null;
+		try {
+			Object captured = snapshot.invokeMethod(obj, methodName);
+			if (captured == WidgetSnapshot.NOT_CAPTURED)
+				return null;
+			return captured == null ? "" : captured.toString(); //$NON-NLS-1$
+		} catch (NoSuchMethodException e) {
+			return ""; //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Gets the full path array of text strings starting at the root menu down
 	 * to this menu item. The string at index 0 will be "BAR" for a menu bar and
@@ -221,6 +247,10 @@ public abstract class SWTUtils {
 			return false;
 		if (style == SWT.NONE)
 			return true;
+		WidgetSnapshot snapshot = WidgetSnapshot.current();
+		int index = snapshot == null ? -1 : snapshot.indexOf(w);
+		if (index >= 0)
+			return (snapshot.style(index) & style) != 0;
 		return UIThreadRunnable.syncExec(w.getDisplay(), new BoolResult() {
 			@Override
 			public Boolean run() {
@@ -322,12 +352,26 @@ public abstract class SWTUtils {
 	 */
 	public static Object invokeMethod(final Object object, String methodName) throws NoSuchMethodException, IllegalAccessException,
 			InvocationTargetException {
-		final Method method = object.getClass().getMethod(methodName, new Class[0]);
-		Widget widget = null;
+		WidgetSnapshot snapshot = WidgetSnapshot.current();
+		if (snapshot != null) {
+			Object captured = snapshot.invokeMethod(object, methodName);
+			if (captured != WidgetSnapshot.NOT_CAPTURED)
+				return captured;
+		}
+		final Method method = MethodCache.getMethod(object.getClass(), methodName);
+		if (method == null)
+			throw new NoSuchMethodException(object.getClass().getName() + "." + methodName); //$NON-NLS-1$
 		final Object result;
 		if (object instanceof Widget) {
-			widget = (Widget) object;
-			result = UIThreadRunnable.syncExec(widget.getDisplay(), new Result<Object>() {
+			Display display = ((Widget) object).getDisplay();
+			if (isUIThread(display)) {
+				try {
+					return method.invoke(object, new Object[0]);
+				} catch (Exception niceTry) {
+					return null;
+				}
+			}
+			result = UIThreadRunnable.syncExec(display, new Result<Object>() {
 				@Override
 				public Object run() {
 					try {
@@ -442,20 +486,58 @@ public abstract class SWTUtils {
 	 * @return <code>true</code> if the screenshot was created and saved, <code>false</code> otherwise.
 	 */
 	private static boolean captureScreenshotInternal(final String fileName, Rectangle bounds) {
+		log.debug(MessageFormat.format("Capturing screenshot ''{0}''", fileName)); //$NON-NLS-1$
+		ImageData imageData;
+		try {
+			imageData = captureImageData(bounds);
+		} catch (Exception e) {
+			log.warn("Could not capture screenshot: " + fileName + "'", e); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+		return saveImageData(fileName, imageData);
+	}
+
+	/**
+	 * Copies an area of the display.
+	 * <p>
+	 * NOTE: This method is not thread safe. Clients must ensure that they do invoke this from a UI thread.
+	 * </p>
+	 *
+	 * @param bounds the area relative to the display that should be captured.
+	 * @return the pixels in the area.
+	 */
+	static ImageData captureImageData(Rectangle bounds) {
 		Display display = display();
 		GC gc = new GC(display);
 		Image image = null;
+		try {
+			image = new Image(display, bounds.width, bounds.height);
+			gc.copyArea(image, bounds.x, bounds.y);
+			return image.getImageData();
+		} finally {
+			gc.dispose();
+			if (image != null) {
+				image.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Encodes a screen shot in the format matching the extension of the file name, and saves it. This does not need to
+	 * be invoked from the UI thread.
+	 *
+	 * @param fileName the filename to save screenshot to.
+	 * @param imageData the screen shot.
+	 * @return <code>true</code> if the screenshot was saved, <code>false</code> otherwise.
+	 */
+	static boolean saveImageData(String fileName, ImageData imageData) {
 		File file = new File(fileName);
 		File parentDir = file.getParentFile();
 		if (parentDir != null)
 			parentDir.mkdirs();
 		try {
-			log.debug(MessageFormat.format("Capturing screenshot ''{0}''", fileName)); //$NON-NLS-1$
-
-			image = new Image(display, bounds.width, bounds.height);
-			gc.copyArea(image, bounds.x, bounds.y);
 			ImageLoader imageLoader = new ImageLoader();
-			imageLoader.data = new ImageData[] { image.getImageData() };
+			imageLoader.data = new ImageData[] { imageData };
 			imageLoader.save(fileName, new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1)));
 			return true;
 		} catch (Exception e) {
@@ -470,11 +552,6 @@ public abstract class SWTUtils {
 				}
 			}
 			return false;
-		} finally {
-			gc.dispose();
-			if (image != null) {
-				image.dispose();
-			}
 		}
 	}
 
@@ -511,20 +588,8 @@ public abstract class SWTUtils {
 	}
 
 	private static void waitUntil(ICondition condition, long timeout, long interval) throws TimeoutException {
-		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
-		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
-		while (true) {
-			try {
-				if (condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
-		}
+		// there is no display to observe yet, this backs off up to the interval
+		new EventDrivenWaitStrategy().waitUntil(null, condition, timeout, interval);
 	}
 
 	/**
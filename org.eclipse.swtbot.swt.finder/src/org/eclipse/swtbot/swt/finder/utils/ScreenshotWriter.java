@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils;
+
+import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.display;
+
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.Result;
+
+/**
+ * Captures screenshots without holding the UI thread while they are encoded and saved.
+ * <p>
+ * Only copying the pixels is done on the UI thread. The screenshots are then queued and saved by a background thread.
+ * When the queue is full, the calling thread saves the screenshot itself. The background thread is started when
+ * needed and stops once there is nothing left to save, it is not a daemon so that the screenshots waiting to be saved
+ * are not lost when the tests end.
+ * </p>
+ *
+ * @see SWTUtils#captureScreenshot(String)
+ * @version $Id$
+ * @since 2.7
+ */
+public class ScreenshotWriter {
+
+	private static final Logger				log	= Logger.getLogger(ScreenshotWriter.class);
+
+	private final BlockingQueue<Screenshot>	queue;
+	private final Object					lock	= new Object();
+	/** The number of screenshots queued or being saved, guarded by {@link #lock}. */
+	private int								pending;
+	/** The background thread, guarded by <code>this</code>. */
+	private Thread							worker;
+
+	/**
+	 * Creates a writer.
+	 *
+	 * @param capacity the maximum number of screenshots waiting to be saved.
+	 */
+	public ScreenshotWriter(int capacity) {
+		queue = new ArrayBlockingQueue<Screenshot>(capacity);
+	}
+
+	/**
+	 * Captures a screenshot and saves it in the background.
+	 *
+	 * @param fileName the filename to save screenshot to, its extension is the image format.
+	 * @param activeShell <code>true</code> to capture only the active shell, or the whole display when no shell is
+	 *            active. <code>false</code> to capture the whole display.
+	 * @return <code>true</code> if the screenshot was captured, <code>false</code> otherwise.
+	 * @throws IllegalArgumentException if the image format is not supported.
+	 */
+	public boolean capture(String fileName, final boolean activeShell) {
+		new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1));
+		log.debug(MessageFormat.format("Capturing screenshot ''{0}''", fileName)); //$NON-NLS-1$
+		ImageData imageData;
+		try {
+			imageData = UIThreadRunnable.syncExec(new Result<ImageData>() {
+				@Override
+				public ImageData run() {
+					Shell shell = activeShell ? display().getActiveShell() : null;
+					Rectangle bounds = shell != null ? shell.getBounds() : display().getBounds();
+					return SWTUtils.captureImageData(bounds);
+				}
+			});
+		} catch (Exception e) {
+			log.warn("Could not capture screenshot: " + fileName + "'", e); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+		if (imageData == null)
+			return false;
+
+		Screenshot screenshot = new Screenshot(fileName, imageData);
+		synchronized (lock) {
+			pending++;
+		}
+		if (queue.offer(screenshot))
+			startWorker();
+		else
+			save(screenshot);
+		return true;
+	}
+
+	/**
+	 * Drops a screenshot that is waiting to be saved.
+	 *
+	 * @param fileName the filename of the screenshot.
+	 * @return <code>true</code> if the screenshot will not be saved, <code>false</code> if there was no such
+	 *         screenshot waiting to be saved.
+	 */
+	public boolean cancel(String fileName) {
+		for (Iterator<Screenshot> iterator = queue.iterator(); iterator.hasNext();) {
+			Screenshot screenshot = iterator.next();
+			if (screenshot.fileName.equals(fileName) && queue.remove(screenshot)) {
+				done();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Waits until all the screenshots captured so far are saved.
+	 *
+	 * @param timeout the maximum time to wait, in milliseconds.
+	 * @return <code>true</code> if all the screenshots are saved, <code>false</code> if the timeout was reached.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public boolean flush(long timeout) throws InterruptedException {
+		long limit = System.currentTimeMillis() + timeout;
+		synchronized (lock) {
+			while (pending > 0) {
+				long remaining = limit - System.currentTimeMillis();
+				if (remaining <= 0)
+					return false;
+				lock.wait(remaining);
+			}
+			return true;
+		}
+	}
+
+	private synchronized void startWorker() {
+		if (worker != null)
+			return;
+		worker = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					while (true) {
+						Screenshot screenshot = queue.poll(1, TimeUnit.SECONDS);
+						if (screenshot != null)
+							save(screenshot);
+						else if (stopWorker())
+							return;
+					}
+				} catch (InterruptedException e) {
+					// the screenshots left in the queue are saved by the next worker
+					synchronized (ScreenshotWriter.this) {
+						worker = null;
+					}
+				}
+			}
+		}, "SWTBot screenshot writer"); //$NON-NLS-1$
+		worker.start();
+	}
+
+	private synchronized boolean stopWorker() {
+		if (!queue.isEmpty())
+			return false;
+		worker = null;
+		return true;
+	}
+
+	private void save(Screenshot screenshot) {
+		try {
+			SWTUtils.saveImageData(screenshot.fileName, screenshot.imageData);
+		} finally {
+			done();
+		}
+	}
+
+	private void done() {
+		synchronized (lock) {
+			pending--;
+			lock.notifyAll();
+		}
+	}
+
+	private static class Screenshot {
+		private final String	fileName;
+		private final ImageData	imageData;
+
+		Screenshot(String fileName, ImageData imageData) {
+			this.fileName = fileName;
+			this.imageData = imageData;
+		}
+	}
+}
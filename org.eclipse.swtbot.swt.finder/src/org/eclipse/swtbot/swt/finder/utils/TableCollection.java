@@ -10,19 +10,30 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.utils;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Represents a table.
+ * <p>
+ * A table is either backed by a list of {@link TableRow}s, or by one array of texts per column when created with
+ * {@link #TableCollection(String[][])}. The latter does not hold an object per row, rows are views created on demand.
+ * </p>
  *
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
-public class TableCollection {
+public class TableCollection implements Iterable<TableRow> {
 
 	private final List<TableRow>	rows;
+	/** The texts of the cells indexed by column then row, or <code>null</code> if backed by rows. */
+	private final String[][]		columns;
+	private final int				columnarRowCount;
 
 	/**
 	 * @param tableRow the rows in the table.
@@ -56,6 +67,25 @@ public class TableCollection {
 	 */
 	public TableCollection(int rowCount) {
 		rows = new ArrayList<TableRow>(rowCount);
+		columns = null;
+		columnarRowCount = 0;
+	}
+
+	/**
+	 * Creates a table backed by the given columns. Each column holds the text of every row, all columns must have the
+	 * same length. The arrays are not copied.
+	 *
+	 * @param columns the texts of the cells, indexed by column then row.
+	 * @since 2.7
+	 */
+	public TableCollection(String[][] columns) {
+		int rowCount = columns.length == 0 ? 0 : columns[0].length;
+		for (String[] column : columns)
+			if (column.length != rowCount)
+				throw new IllegalArgumentException("All columns must have the same number of rows."); //$NON-NLS-1$
+		this.rows = null;
+		this.columns = columns;
+		this.columnarRowCount = rowCount;
 	}
 
 	/**
@@ -63,8 +93,11 @@ public class TableCollection {
 	 *
 	 * @param tableRow the row to be added at the end of the table.
 	 * @return a reference to this object.
+	 * @throws UnsupportedOperationException if this table is backed by columns.
 	 */
 	public TableCollection add(TableRow tableRow) {
+		if (rows == null)
+			throw new UnsupportedOperationException("Rows can not be added to a table backed by columns."); //$NON-NLS-1$
 		rows.add(tableRow);
 		return this;
 	}
@@ -75,6 +108,8 @@ public class TableCollection {
 	 * @return the number of rows in the selection.
 	 */
 	public int rowCount() {
+		if (rows == null)
+			return columnarRowCount;
 		return rows.size();
 	}
 
@@ -86,6 +121,11 @@ public class TableCollection {
 	 * @return the string at the specified cell in the collection.
 	 */
 	public String get(int row, int column) {
+		if (rows == null) {
+			if ((row < 0) || (row >= columnarRowCount))
+				throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + columnarRowCount); //$NON-NLS-1$ //$NON-NLS-2$
+			return columns[column][row];
+		}
 		return get(row).get(column);
 	}
 
@@ -95,16 +135,81 @@ public class TableCollection {
 	 * @param row the row index.
 	 * @return the row at the index.
 	 */
-	public TableRow get(int row) {
+	public TableRow get(final int row) {
+		if (rows == null) {
+			if ((row < 0) || (row >= columnarRowCount))
+				throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + columnarRowCount); //$NON-NLS-1$ //$NON-NLS-2$
+			return new TableRow(new AbstractList<String>() {
+				@Override
+				public String get(int column) {
+					return columns[column][row];
+				}
+
+				@Override
+				public int size() {
+					return columns.length;
+				}
+			});
+		}
 		return rows.get(row);
 	}
 
+	/**
+	 * Gets the texts of all the rows in the given column.
+	 *
+	 * @param column the column index.
+	 * @return the texts in the column.
+	 * @since 2.7
+	 */
+	public List<String> column(int column) {
+		if (rows == null)
+			return Collections.unmodifiableList(Arrays.asList(columns[column]));
+		List<String> result = new ArrayList<String>(rows.size());
+		for (TableRow row : rows)
+			result.add(row.get(column));
+		return result;
+	}
+
+	/**
+	 * Iterates over the rows of this table. Tables backed by columns create each row as it is reached.
+	 *
+	 * @return an iterator over the rows.
+	 * @since 2.7
+	 */
+	@Override
+	public Iterator<TableRow> iterator() {
+		if (rows != null)
+			return Collections.unmodifiableList(rows).iterator();
+		return new Iterator<TableRow>() {
+			private int	next;
+
+			@Override
+			public boolean hasNext() {
+				return next < columnarRowCount;
+			}
+
+			@Override
+			public TableRow next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return get(next++);
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
 	/**
 	 * Gets the column count.
 	 *
 	 * @return the number of columns
 	 */
 	public int columnCount() {
+		if (rows == null)
+			return columnarRowCount > 0 ? columns.length : 0;
 		if (rowCount() > 0)
 			return rows.get(0).columnCount();
 		return 0;
@@ -113,7 +218,7 @@ public class TableCollection {
 	@Override
 	public String toString() {
 		final StringBuffer buf = new StringBuffer();
-		for (final Iterator<TableRow> iterator = rows.iterator(); iterator.hasNext();) {
+		for (final Iterator<TableRow> iterator = iterator(); iterator.hasNext();) {
 			final TableRow row = iterator.next();
 			buf.append(row);
 			buf.append("\n"); //$NON-NLS-1$
@@ -125,7 +230,10 @@ public class TableCollection {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((rows == null) ? 0 : rows.hashCode());
+		int rowsHashCode = 1;
+		for (TableRow row : this)
+			rowsHashCode = prime * rowsHashCode + row.hashCode();
+		result = prime * result + rowsHashCode;
 		return result;
 	}
 
@@ -138,8 +246,12 @@ public class TableCollection {
 		if (getClass() != obj.getClass())
 			return false;
 		final TableCollection other = (TableCollection) obj;
-		if (rows.equals(other.rows))
-			return true;
-		return false;
+		if (rowCount() != other.rowCount())
+			return false;
+		Iterator<TableRow> otherRows = other.iterator();
+		for (TableRow row : this)
+			if (!row.equals(otherRows.next()))
+				return false;
+		return true;
 	}
 }
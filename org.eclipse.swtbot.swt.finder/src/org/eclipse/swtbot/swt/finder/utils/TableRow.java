@@ -50,10 +50,20 @@ public class TableRow {
 			tableColumns.add(string);
 	}
 
+	/**
+	 * Constructs a table row backed by the given list of column texts.
+	 *
+	 * @param tableColumns the items in the row, not copied.
+	 */
+	TableRow(List<String> tableColumns) {
+		this.tableColumns = tableColumns;
+	}
+
 	/**
 	 * Adds a column text label to the list.
 	 *
 	 * @param text the item to be added at the end of the row.
+	 * @throws UnsupportedOperationException if this row is a view of a {@link TableCollection} backed by columns.
 	 */
 	public void add(String text) {
 		tableColumns.add(text);
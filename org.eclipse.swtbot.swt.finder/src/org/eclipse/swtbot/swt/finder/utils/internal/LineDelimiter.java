@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import java.util.regex.Pattern;
+
+import org.eclipse.swt.widgets.Text;
+
+/**
+ * Replaces the line delimiter of the platform with '\n' in the texts read from widgets.
+ *
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @version $Id$
+ * @since 2.7
+ */
+public final class LineDelimiter {
+
+	private static final Pattern	DELIMITER	= Pattern.compile(Text.DELIMITER, Pattern.LITERAL);
+
+	/* This class is not intended to be instantiated. */
+	private LineDelimiter() {
+		// not allowed
+	}
+
+	/**
+	 * @param text the text read from a widget.
+	 * @return the text with the line delimiters of the platform replaced by '\n'.
+	 * @see Text#DELIMITER
+	 */
+	public static String normalize(String text) {
+		if ((text == null) || "\n".equals(Text.DELIMITER) || (text.indexOf(Text.DELIMITER) < 0)) //$NON-NLS-1$
+			return text;
+		return DELIMITER.matcher(text).replaceAll("\n"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the public no argument methods looked up by name on a class, including the classes that do not have the
+ * method, so that reading a property of many widgets by reflection looks up the method once per class.
+ * <p>
+ * The classes are held weakly and the methods softly, so the cache does not keep classes from being unloaded.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @version $Id$
+ * @since 2.7
+ */
+public final class MethodCache {
+
+	/** Cached for the classes that do not have the method. */
+	private static final Object							NO_METHOD	= new Object();
+
+	/** The methods by name by class, a method is held by a {@link SoftReference} since it references its class. */
+	private static final Map<Class<?>, Map<String, Object>>	methods		= Collections.synchronizedMap(new WeakHashMap<Class<?>, Map<String, Object>>());
+
+	/* This class is not intended to be instantiated. */
+	private MethodCache() {
+		// not allowed
+	}
+
+	/**
+	 * Gets a public method without arguments of a class.
+	 *
+	 * @param type the class.
+	 * @param methodName the name of the method.
+	 * @return the method, or <code>null</code> if the class does not have it.
+	 * @see Class#getMethod(String, Class...)
+	 */
+	@SuppressWarnings("unchecked")
+	public static Method getMethod(Class<?> type, String methodName) {
+		Object cached;
+		synchronized (methods) {
+			Map<String, Object> byName = methods.get(type);
+			cached = byName == null ? null : byName.get(methodName);
+		}
+		if (cached == NO_METHOD)
+			return null;
+		Method method = cached == null ? null : ((Reference<Method>) cached).get();
+		if (method != null)
+			return method;
+		try {
+			method = type.getMethod(methodName, new Class<?>[0]);
+			cached = new SoftReference<Method>(method);
+		} catch (NoSuchMethodException e) {
+			cached = NO_METHOD;
+		}
+		synchronized (methods) {
+			Map<String, Object> byName = methods.get(type);
+			if (byName == null) {
+				byName = new HashMap<String, Object>();
+				methods.put(type, byName);
+			}
+			byName.put(methodName, cached);
+		}
+		return method;
+	}
+
+	/**
+	 * @param object the object.
+	 * @param methodName the name of the method.
+	 * @return <code>true</code> if the object has a public method without arguments with the given name.
+	 */
+	public static boolean hasMethod(Object object, String methodName) {
+		return (object != null) && (getMethod(object.getClass(), methodName) != null);
+	}
+}
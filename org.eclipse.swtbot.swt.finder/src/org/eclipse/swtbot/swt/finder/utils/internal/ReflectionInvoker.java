@@ -51,7 +51,9 @@ public final class ReflectionInvoker implements StringResult {
 	public String run() {
 		String result = ""; //$NON-NLS-1$
 		try {
-			Method method = w.getClass().getMethod(methodName, new Class[]{});
+			Method method = MethodCache.getMethod(w.getClass(), methodName);
+			if (method == null)
+				return result;
 			Object invoke = method.invoke(w, new Object[0]);
 			if (invoke != null)
 				result = invoke.toString();
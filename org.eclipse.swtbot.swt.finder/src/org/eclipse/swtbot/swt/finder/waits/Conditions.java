@@ -195,6 +195,30 @@ public abstract class Conditions {
 		return new WaitForMenuItem(menu, matcher, recursive, index);
 	}
 
+	/**
+	 * Gets the condition to wait for the menu item at a text path relative to a root menu.
+	 *
+	 * @param menu the menu bar or pop up menu.
+	 * @param texts the texts on the menu items along the path.
+	 * @return a condition that waits for the menu item at the path.
+	 * @since 2.7
+	 */
+	public static WaitForObjectCondition<MenuItem> waitForMenuPath(SWTBotRootMenu menu, String... texts) {
+		return new WaitForMenuPath(menu, texts);
+	}
+
+	/**
+	 * Gets the condition to wait for the menu item at a text path relative to a menu.
+	 *
+	 * @param menu the menu.
+	 * @param texts the texts on the menu items along the path.
+	 * @return a condition that waits for the menu item at the path.
+	 * @since 2.7
+	 */
+	public static WaitForObjectCondition<MenuItem> waitForMenuPath(SWTBotMenu menu, String... texts) {
+		return new WaitForMenuPath(menu, texts);
+	}
+
 	/**
 	 * @param shell the shell to search for the menu.
 	 * @param matcher the matcher.
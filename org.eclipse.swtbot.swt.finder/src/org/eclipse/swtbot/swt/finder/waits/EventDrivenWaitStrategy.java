@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
+
+/**
+ * Re-evaluates the condition as soon as something happens on the display that may change its outcome: a shell opens,
+ * closes or is activated, a widget is shown, hidden, disposed, selected or modified. Paint and resize events are not
+ * observed, since repaints such as a blinking caret or a progress animation happen all the time without changing what
+ * conditions look at.
+ * <p>
+ * Events are observed using {@link Display#addFilter(int, Listener)}, the filters are installed once per display. When
+ * nothing happens on the display, the condition is re-evaluated with an exponential backoff starting at
+ * {@value #MIN_DELAY}ms up to the interval passed to {@link #waitUntil(Display, ICondition, long, long)}, so conditions
+ * that depend on something other than the display (jobs, files, sockets) are still evaluated regularly.
+ * </p>
+ * <p>
+ * Events sent while the condition is being tested, for instance by a condition that shows a menu to look into it, do
+ * not count as changes.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class EventDrivenWaitStrategy implements WaitStrategy {
+
+	/** The minimum delay in milliseconds between two evaluations of a condition. */
+	public static final long						MIN_DELAY	= 10;
+
+	/** The events that are likely to change the outcome of a condition. */
+	private static final int[]						EVENT_TYPES	= { SWT.Show, SWT.Hide, SWT.Dispose, SWT.Activate,
+			SWT.Deactivate, SWT.Close, SWT.Selection, SWT.DefaultSelection, SWT.Modify, SWT.Expand, SWT.Collapse,
+			SWT.SetData };
+
+	private static final Map<Display, DisplayMonitor>	monitors	= new WeakHashMap<Display, DisplayMonitor>();
+
+	@Override
+	public void waitUntil(Display display, ICondition condition, long timeout, long interval) throws TimeoutException {
+		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
+		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
+		long limit = System.currentTimeMillis() + timeout;
+		DisplayMonitor monitor = monitor(display);
+		long minDelay = Math.min(MIN_DELAY, interval);
+		long delay = minDelay;
+		while (true) {
+			try {
+				if (condition.test())
+					return;
+			} catch (Throwable e) {
+				// do nothing
+			}
+			// read after the test, since conditions such as WaitForMenuItem send the observed events themselves
+			long changes = monitor == null ? 0 : monitor.changes();
+			SWTUtils.sleep(minDelay);
+			if ((monitor != null) && monitor.awaitChange(changes, delay - minDelay))
+				delay = minDelay;
+			else
+				delay = Math.min(delay * 2, interval);
+			if (System.currentTimeMillis() > limit)
+				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * @param display the display.
+	 * @return the monitor observing the display, or <code>null</code> if the display is not usable.
+	 */
+	private static DisplayMonitor monitor(final Display display) {
+		if ((display == null) || display.isDisposed())
+			return null;
+		synchronized (monitors) {
+			DisplayMonitor monitor = monitors.get(display);
+			if (monitor != null)
+				return monitor;
+			monitor = new DisplayMonitor();
+			monitors.put(display, monitor);
+			monitor.install(display);
+			return monitor;
+		}
+	}
+
+	/**
+	 * Counts events on a display, and wakes up threads waiting for the count to change.
+	 */
+	private static class DisplayMonitor implements Listener {
+
+		private long	changes;
+		private int		waiters;
+
+		private void install(final Display display) {
+			UIThreadRunnable.syncExec(display, new VoidResult() {
+				@Override
+				public void run() {
+					for (int eventType : EVENT_TYPES)
+						display.addFilter(eventType, DisplayMonitor.this);
+					display.disposeExec(new Runnable() {
+						@Override
+						public void run() {
+							synchronized (monitors) {
+								monitors.remove(display);
+							}
+						}
+					});
+				}
+			});
+		}
+
+		@Override
+		public synchronized void handleEvent(Event event) {
+			changes++;
+			if (waiters > 0)
+				notifyAll();
+		}
+
+		synchronized long changes() {
+			return changes;
+		}
+
+		/**
+		 * @param since the number of changes seen by the caller.
+		 * @param timeout the maximum time to wait in milliseconds.
+		 * @return <code>true</code> if the display changed since the caller last looked, <code>false</code> if the
+		 *         timeout elapsed first.
+		 */
+		synchronized boolean awaitChange(long since, long timeout) {
+			long limit = System.currentTimeMillis() + timeout;
+			waiters++;
+			try {
+				long remaining = timeout;
+				while ((changes == since) && (remaining > 0)) {
+					wait(remaining);
+					remaining = limit - System.currentTimeMillis();
+				}
+				return changes != since;
+			} catch (InterruptedException e) {
+				throw new RuntimeException("Could not sleep", e); //$NON-NLS-1$
+			} finally {
+				waiters--;
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
+
+/**
+ * Evaluates the condition, and sleeps for a fixed interval between evaluations.
+ * <p>
+ * This is how SWTBot used to wait for conditions before {@link WaitStrategy} was introduced.
+ * </p>
+ *
+ * @version $Id$
+ * @since 2.7
+ */
+public class PollingWaitStrategy implements WaitStrategy {
+
+	@Override
+	public void waitUntil(Display display, ICondition condition, long timeout, long interval) throws TimeoutException {
+		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
+		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
+		long limit = System.currentTimeMillis() + timeout;
+		while (true) {
+			try {
+				if (condition.test())
+					return;
+			} catch (Throwable e) {
+				// do nothing
+			}
+			SWTUtils.sleep(interval);
+			if (System.currentTimeMillis() > limit)
+				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+}
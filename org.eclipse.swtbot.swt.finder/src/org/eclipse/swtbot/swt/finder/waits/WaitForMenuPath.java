@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.MenuFinder;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory;
+import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotMenu;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotRootMenu;
+
+/**
+ * Condition that waits for the menu item at a text path relative to a menu.
+ *
+ * @see Conditions
+ * @see MenuFinder#findMenuItem(Menu, String...)
+ * @version $Id$
+ * @since 2.7
+ */
+public class WaitForMenuPath extends WaitForObjectCondition<MenuItem> {
+
+	private final MenuFinder	menuFinder	= new MenuFinder();
+	private final Widget		widget;
+	private final String[]		texts;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param menu the menu.
+	 * @param texts the texts on the menu items along the path.
+	 */
+	public WaitForMenuPath(SWTBotRootMenu menu, String... texts) {
+		super(WidgetMatcherFactory.<MenuItem> withMnemonic(texts[texts.length - 1]));
+		this.widget = menu.widget;
+		this.texts = texts;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param menu the menu.
+	 * @param texts the texts on the menu items along the path.
+	 */
+	public WaitForMenuPath(SWTBotMenu menu, String... texts) {
+		super(WidgetMatcherFactory.<MenuItem> withMnemonic(texts[texts.length - 1]));
+		this.widget = menu.widget;
+		this.texts = texts;
+	}
+
+	@Override
+	public String getFailureMessage() {
+		return "Could not find menu item with path: " + Arrays.asList(texts); //$NON-NLS-1$
+	}
+
+	@Override
+	protected List<MenuItem> findMatches() {
+		MenuItem menuItem = UIThreadRunnable.syncExec(new WidgetResult<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				if (widget instanceof Menu) {
+					return menuFinder.findMenuItem((Menu) widget, texts);
+				} else if (widget instanceof MenuItem) {
+					return menuFinder.findMenuItem(((MenuItem) widget).getMenu(), texts);
+				}
+				return null;
+			}
+		});
+		if (menuItem != null) {
+			return Collections.singletonList(menuItem);
+		}
+		return Collections.<MenuItem>emptyList();
+	}
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2017 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
+
+/**
+ * Decides when an {@link ICondition} is re-evaluated while waiting for it to become <code>true</code>.
+ * <p>
+ * The default strategy is defined by {@link SWTBotPreferences#WAIT_STRATEGY}.
+ * </p>
+ *
+ * @see PollingWaitStrategy
+ * @see EventDrivenWaitStrategy
+ * @version $Id$
+ * @since 2.7
+ */
+public interface WaitStrategy {
+
+	/**
+	 * Waits until the condition evaluates to <code>true</code>, or the timeout is reached. The condition must already
+	 * be initialized.
+	 *
+	 * @param display the display whose activity may change the outcome of the condition, may be <code>null</code>.
+	 * @param condition the condition to be evaluated.
+	 * @param timeout the timeout in milliseconds.
+	 * @param interval the maximum delay in milliseconds between two evaluations of the condition.
+	 * @throws TimeoutException if the condition does not evaluate to true after timeout milliseconds.
+	 */
+	void waitUntil(Display display, ICondition condition, long timeout, long interval) throws TimeoutException;
+
+}
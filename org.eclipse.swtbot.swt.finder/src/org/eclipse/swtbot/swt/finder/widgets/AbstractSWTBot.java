@@ -43,6 +43,8 @@ import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.ContextMenuHelper;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.instrumentation.Instrumentation;
+import org.eclipse.swtbot.swt.finder.instrumentation.Operation;
 import org.eclipse.swtbot.swt.finder.keyboard.Keyboard;
 import org.eclipse.swtbot.swt.finder.keyboard.KeyboardFactory;
 import org.eclipse.swtbot.swt.finder.keyboard.Keystrokes;
@@ -55,6 +57,7 @@ import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.StringResult;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.EventSequence;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotEvents;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
@@ -151,14 +154,65 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	protected void notify(final int eventType, final Event createEvent, final Widget widget) {
 		createEvent.type = eventType;
-		final Object[] result = syncExec(new ArrayResult<Object>() {
-			@Override
-			public Object[] run() {
-				return new Object[] { SWTBotEvents.toString(createEvent), AbstractSWTBot.this.toString() };
-			}
-		});
+		long start = Instrumentation.start();
+		try {
+			post(createEvent, widget);
+			waitForEvents();
+		} finally {
+			Instrumentation.end(Operation.NOTIFY, start);
+		}
+
+		long playbackDelay = SWTBotPreferences.PLAYBACK_DELAY;
+		if (playbackDelay > 0)
+			sleep(playbackDelay);
+	}
+
+	/**
+	 * Sends a non-blocking notification of each event in the sequence to its widget, in order. By default the events
+	 * are sent one at a time, like {@link #notify(int, Event, Widget)}, so the runnables that a listener posts with
+	 * asyncExec run before the next event is sent.
+	 * <p>
+	 * When {@link SWTBotPreferences#BATCH_EVENTS} is set, the events are all enqueued at once, and this waits only once
+	 * for all of them to be dispatched. The runnables posted by the listeners then run after the last event. When
+	 * {@link SWTBotPreferences#PLAYBACK_DELAY} is set, the events are always sent one at a time, so that the delay
+	 * applies between them.
+	 * </p>
+	 *
+	 * @param events the events to send.
+	 * @since 2.7
+	 */
+	protected void notify(final EventSequence events) {
+		if (!SWTBotPreferences.BATCH_EVENTS || (SWTBotPreferences.PLAYBACK_DELAY > 0)) {
+			for (int i = 0; i < events.size(); i++)
+				notify(events.type(i), events.event(i), events.widget(i));
+			return;
+		}
+		long start = Instrumentation.start();
+		try {
+			for (int i = 0; i < events.size(); i++)
+				post(events.event(i), events.widget(i));
+			waitForEvents();
+		} finally {
+			Instrumentation.end(Operation.NOTIFY, start);
+		}
+	}
 
-		log.trace(MessageFormat.format("Enquing event {0} on {1}", result)); //$NON-NLS-1$
+	/**
+	 * Enqueues the event for the widget on the UI thread.
+	 *
+	 * @param event the event, its type must be set.
+	 * @param widget the widget to send the event to.
+	 */
+	private void post(final Event event, final Widget widget) {
+		if (log.isTraceEnabled()) {
+			Object[] result = syncExec(new ArrayResult<Object>() {
+				@Override
+				public Object[] run() {
+					return new Object[] { SWTBotEvents.toString(event), AbstractSWTBot.this.toString() };
+				}
+			});
+			log.trace(MessageFormat.format("Enquing event {0} on {1}", result)); //$NON-NLS-1$
+		}
 		asyncExec(new VoidResult() {
 			@Override
 			public void run() {
@@ -170,22 +224,33 @@ public abstract class AbstractSWTBot<T extends Widget> {
 					log.warn(MessageFormat.format("Widget is not enabled: {0}", AbstractSWTBot.this)); //$NON-NLS-1$
 					return;
 				}
-				log.trace(MessageFormat.format("Sending event {0} to {1}", result)); //$NON-NLS-1$
-				widget.notifyListeners(eventType, createEvent);
-				log.debug(MessageFormat.format("Sent event {0} to {1}", result)); //$NON-NLS-1$
+				String description = null;
+				if (log.isDebugEnabled()) {
+					description = SWTBotEvents.toString(event);
+					log.trace(MessageFormat.format("Sending event {0} to {1}", description, AbstractSWTBot.this)); //$NON-NLS-1$
+				}
+				widget.notifyListeners(event.type, event);
+				if (description != null)
+					log.debug(MessageFormat.format("Sent event {0} to {1}", description, AbstractSWTBot.this)); //$NON-NLS-1$
 			}
 		});
+	}
 
-		UIThreadRunnable.syncExec(new VoidResult() {
+	/**
+	 * Waits for the events enqueued so far to be dispatched. When {@link SWTBotPreferences#DRAIN_EVENTS} is set, also
+	 * waits for the runnables the listeners posted while handling them.
+	 */
+	private void waitForEvents() {
+		if (SWTBotPreferences.DRAIN_EVENTS) {
+			UIThreadRunnable.drainEvents(display, SWTBotPreferences.TIMEOUT);
+			return;
+		}
+		syncExec(new VoidResult() {
 			@Override
 			public void run() {
 				// do nothing, just wait for sync.
 			}
 		});
-
-		long playbackDelay = SWTBotPreferences.PLAYBACK_DELAY;
-		if (playbackDelay > 0)
-			sleep(playbackDelay);
 	}
 
 	/**
@@ -280,18 +345,19 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	protected void clickXY(int x, int y) {
 		log.debug(MessageFormat.format("Clicking on {0}", this)); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.BUTTON1));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.Activate, createEvent(), widget)
+				.add(SWT.FocusIn, createEvent(), widget)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), widget)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), widget)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), widget)
+				.add(SWT.MouseHover, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.MouseExit, createEvent(), widget)
+				.add(SWT.Deactivate, createEvent(), widget)
+				.add(SWT.FocusOut, createEvent(), widget));
 		log.debug(MessageFormat.format("Clicked on {0}", this)); //$NON-NLS-1$
 	}
 
@@ -304,18 +370,19 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	private void rightClickXY(int x, int y) {
 		log.debug(MessageFormat.format("Right clicking on {0}", this)); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 3, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 3, SWT.BUTTON3, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.BUTTON3));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.Activate, createEvent(), widget)
+				.add(SWT.FocusIn, createEvent(), widget)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 3, SWT.NONE, 1), widget)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 3, SWT.BUTTON3, 1), widget)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON3), widget)
+				.add(SWT.MouseHover, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.MouseExit, createEvent(), widget)
+				.add(SWT.Deactivate, createEvent(), widget)
+				.add(SWT.FocusOut, createEvent(), widget));
 		log.debug(MessageFormat.format("Right clicked on {0}", this)); //$NON-NLS-1$
 	}
 
@@ -328,23 +395,24 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	protected void doubleClickXY(int x, int y) {
 		log.debug(MessageFormat.format("Double-clicking on {0}", widget)); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.NONE));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.Selection, createSelectionEvent(SWT.NONE));
-		notify(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.DefaultSelection);
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.Activate, createEvent(), widget)
+				.add(SWT.FocusIn, createEvent(), widget)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), widget)
+				.add(SWT.Selection, createSelectionEvent(SWT.NONE), widget)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), widget)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2), widget)
+				.add(SWT.Selection, createSelectionEvent(SWT.NONE), widget)
+				.add(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2), widget)
+				.add(SWT.DefaultSelection, createEvent(), widget)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2), widget)
+				.add(SWT.MouseHover, createEvent(), widget)
+				.add(SWT.MouseMove, createEvent(), widget)
+				.add(SWT.MouseExit, createEvent(), widget)
+				.add(SWT.Deactivate, createEvent(), widget)
+				.add(SWT.FocusOut, createEvent(), widget));
 		log.debug(MessageFormat.format("Double-clicked on {0}", widget)); //$NON-NLS-1$
 	}
 
@@ -11,6 +11,10 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.widgets;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 import org.eclipse.swt.browser.Browser;
 import org.eclipse.swt.browser.ProgressEvent;
 import org.eclipse.swt.browser.ProgressListener;
@@ -22,6 +26,8 @@ import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.utils.Credentials;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
 import org.hamcrest.SelfDescribing;
@@ -82,6 +88,27 @@ public class SWTBotBrowser extends AbstractSWTBotControl<Browser> {
 		});
 	}
 
+	/**
+	 * Renders the given HTML in the browser, the page is loaded asynchronously (see {@link #isPageLoaded()})
+	 *
+	 * @param html the HTML content to render.
+	 * @since 2.7
+	 */
+	public void setText(final String html) {
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				progressListener.setDone(false);
+				widget.addProgressListener(progressListener);
+				boolean result = widget.setText(html);
+				if (!result) {
+					progressListener.setDone(true);
+					widget.removeProgressListener(progressListener);
+				}
+			}
+		});
+	}
+
 	/**
 	 * @return the current URL or an empty String if there is no current URL
 	 */
@@ -116,6 +143,79 @@ public class SWTBotBrowser extends AbstractSWTBotControl<Browser> {
 		});
 	}
 
+	/**
+	 * Executes scripts in browser asynchronously, one after the other, in a single run on the UI thread.
+	 *
+	 * @param scripts the scripts.
+	 * @since 2.7
+	 */
+	public void executeAll(final String... scripts) {
+		waitForPageLoaded();
+		asyncExec(new VoidResult() {
+			@Override
+			public void run() {
+				for (String script : scripts)
+					widget.execute(script);
+			}
+		});
+	}
+
+	/**
+	 * Evaluates a script in browser asynchronously.
+	 * <p>
+	 * The value returned by the script is converted by the browser to a {@link Boolean}, a {@link Double}, a
+	 * {@link String}, an <code>Object[]</code> of these types, or <code>null</code>. If the script fails, or if the
+	 * value is not of the given type, getting the result of the future throws an
+	 * {@link java.util.concurrent.ExecutionException}.
+	 * </p>
+	 *
+	 * @param script the script, it must <code>return</code> its value.
+	 * @param type the type of the value returned by the script.
+	 * @return the future value returned by the script.
+	 * @see Browser#evaluate(String)
+	 * @since 2.7
+	 */
+	public <T> Future<T> evaluate(final String script, final Class<T> type) {
+		return submit(new Callable<T>() {
+			@Override
+			public T call() throws Exception {
+				return type.cast(widget.evaluate(script));
+			}
+		});
+	}
+
+	/**
+	 * Evaluates scripts in browser asynchronously, one after the other, in a single run on the UI thread.
+	 *
+	 * @param scripts the scripts, they must <code>return</code> their value.
+	 * @return the future values returned by the scripts, in the order of the scripts.
+	 * @see #evaluate(String, Class)
+	 * @since 2.7
+	 */
+	public Future<Object[]> evaluateAll(final String... scripts) {
+		return submit(new Callable<Object[]>() {
+			@Override
+			public Object[] call() throws Exception {
+				Object[] values = new Object[scripts.length];
+				for (int i = 0; i < scripts.length; i++)
+					values[i] = widget.evaluate(scripts[i]);
+				return values;
+			}
+		});
+	}
+
+	private <T> Future<T> submit(Callable<T> callable) {
+		waitForPageLoaded();
+		final FutureTask<T> task = new FutureTask<T>(callable);
+		asyncExec(new VoidResult() {
+			@Override
+			public void run() {
+				task.run();
+			}
+		});
+		return task;
+	}
+
 	/**
 	 * @return the receiver's back command enabled state
 	 */
@@ -199,12 +299,21 @@ public class SWTBotBrowser extends AbstractSWTBotControl<Browser> {
 	}
 
 	/**
-	 * Waits until browser loads page.
+	 * Waits until browser loads page. The calling thread is woken up as soon as the browser notifies that the page is
+	 * loaded.
 	 * 
 	 * @throws TimeoutException if page is not loaded after default timeout
 	 */
 	public void waitForPageLoaded() {
-		new SWTBot().waitUntil(new WaitForBrowserLoadsPage(this));
+		if (progressListener.isDone())
+			return;
+		if (SWTUtils.isUIThread(display)) {
+			new SWTBot().waitUntil(new WaitForBrowserLoadsPage(this));
+			return;
+		}
+		long timeout = SWTBotPreferences.TIMEOUT;
+		if (!progressListener.awaitDone(timeout))
+			throw new TimeoutException("Timeout after: " + timeout + " ms.: " + new WaitForBrowserLoadsPage(this).getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	/**
@@ -264,6 +373,26 @@ public class SWTBotBrowser extends AbstractSWTBotControl<Browser> {
 
 		public synchronized void setDone(boolean done) {
 			this.done = done;
+			if (done)
+				notifyAll();
+		}
+
+		/**
+		 * @param timeout the maximum time to wait in milliseconds.
+		 * @return <code>true</code> if the page is loaded, <code>false</code> if the timeout elapsed first.
+		 */
+		synchronized boolean awaitDone(long timeout) {
+			long limit = System.currentTimeMillis() + timeout;
+			long remaining = timeout;
+			try {
+				while (!done && (remaining > 0)) {
+					wait(remaining);
+					remaining = limit - System.currentTimeMillis();
+				}
+			} catch (InterruptedException e) {
+				throw new RuntimeException("Could not sleep", e); //$NON-NLS-1$
+			}
+			return done;
 		}
 
 		@Override
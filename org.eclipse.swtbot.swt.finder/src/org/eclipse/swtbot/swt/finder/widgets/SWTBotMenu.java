@@ -220,7 +220,8 @@ public class SWTBotMenu extends AbstractSWTBot<MenuItem> {
 	/**
 	 * Gets the menu item matching the given text path relative to this menu. It
 	 * will attempt to recursively find the menu items in sequence in the
-	 * matching sub-menus that are found.
+	 * matching sub-menus that are found. The whole path is looked up at once,
+	 * showing only the sub-menus along the path.
 	 *
 	 * @param texts the texts on the menu items that are to be found.
 	 * @return the menu item that has the given text.
@@ -231,11 +232,9 @@ public class SWTBotMenu extends AbstractSWTBot<MenuItem> {
 		if (texts == null || texts.length == 0) {
 			return this;
 		}
-		SWTBotMenu menu = this;
-		for (String text : texts) {
-			menu = menu.menu(text, false, 0);
-		}
-		return menu;
+		WaitForObjectCondition<MenuItem> waitForMenuPath = Conditions.waitForMenuPath(this, texts);
+		new SWTBot().waitUntilWidgetAppears(waitForMenuPath);
+		return new SWTBotMenu(waitForMenuPath.get(0), withMnemonic(texts[texts.length - 1]));
 	}
 
 	/**
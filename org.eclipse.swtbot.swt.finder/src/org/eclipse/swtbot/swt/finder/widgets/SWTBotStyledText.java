@@ -228,7 +228,20 @@ public class SWTBotStyledText extends AbstractSWTBotControl<StyledText> {
 	public void typeText(final String text, int interval) {
 		log.debug(MessageFormat.format("Inserting text:{0} into styledtext{1}", text, this)); //$NON-NLS-1$
 		setFocus();
-		keyboard().typeText(text);
+		keyboard().typeText(text, interval);
+	}
+
+	/**
+	 * Pastes the text at the location of the caret through the clipboard, which is faster than typing long text.
+	 *
+	 * @param text the text to be pasted at the location of the caret.
+	 * @see org.eclipse.swtbot.swt.finder.keyboard.Keyboard#pasteText(String)
+	 * @since 2.7
+	 */
+	public void pasteText(final String text) {
+		log.debug(MessageFormat.format("Pasting text:{0} into styledtext{1}", text, this)); //$NON-NLS-1$
+		setFocus();
+		keyboard().pasteText(text);
 	}
 
 	/**
@@ -165,8 +165,20 @@ public class SWTBotTable extends AbstractSWTBotControl<Table> {
 	 * @return the cell at the location specified by the row and column
 	 */
 	public String cell(final int row, final int column) {
-		assertIsLegalCell(row, column);
+		String cell = syncExec(new StringResult() {
+			@Override
+			public String run() {
+				int columnCount = widget.getColumnCount();
+				if ((row < 0) || (row >= widget.getItemCount()) || (column < 0)
+						|| ((column >= columnCount) && !((columnCount == 0) && (column == 0))))
+					return null;
+				return widget.getItem(row).getText(column);
+			}
+		});
+		if (cell != null)
+			return cell;
 
+		assertIsLegalCell(row, column);
 		return syncExec(new StringResult() {
 			@Override
 			public String run() {
@@ -176,6 +188,79 @@ public class SWTBotTable extends AbstractSWTBotControl<Table> {
 		});
 	}
 
+	/**
+	 * Gets the text of all the cells in the table, read in a single pass on the UI thread.
+	 *
+	 * @return the cells of the table, a table without columns is exported as a single column.
+	 * @since 2.7
+	 */
+	public TableCollection cells() {
+		return cells(0, Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * Gets the text of the cells in the given range of rows, read in a single pass on the UI thread.
+	 *
+	 * @param fromRow the index of the first row, inclusive.
+	 * @param toRow the index of the last row, exclusive. Rows past the end of the table are ignored.
+	 * @return the cells of the rows, a table without columns is exported as a single column.
+	 * @since 2.7
+	 */
+	public TableCollection cells(int fromRow, int toRow) {
+		return cells(fromRow, toRow, null);
+	}
+
+	/**
+	 * Gets the text of the cells in the given range of rows and in the given columns, read in a single pass on the UI
+	 * thread.
+	 *
+	 * @param fromRow the index of the first row, inclusive.
+	 * @param toRow the index of the last row, exclusive. Rows past the end of the table are ignored.
+	 * @param columns the indexes of the columns to export, in the order in which they are wanted, or <code>null</code>
+	 *            for all columns.
+	 * @return the cells of the rows, column <code>i</code> of the result holds the column <code>columns[i]</code> of the
+	 *         table.
+	 * @since 2.7
+	 */
+	public TableCollection cells(final int fromRow, final int toRow, final int[] columns) {
+		Assert.isLegal(fromRow >= 0, "The row number (" + fromRow + ") can not be negative."); //$NON-NLS-1$ //$NON-NLS-2$
+		Assert.isLegal(fromRow <= toRow, "The row range [" + fromRow + ", " + toRow + ") is empty."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return syncExec(new Result<TableCollection>() {
+			@Override
+			public TableCollection run() {
+				int[] indexes = columnIndexes(columns, widget.getColumnCount());
+				int end = Math.min(toRow, widget.getItemCount());
+				int rowCount = Math.max(0, end - fromRow);
+				String[][] cells = new String[indexes.length][rowCount];
+				for (int row = 0; row < rowCount; row++) {
+					TableItem item = widget.getItem(fromRow + row);
+					for (int column = 0; column < indexes.length; column++)
+						cells[column][row] = item.getText(indexes[column]);
+				}
+				return new TableCollection(cells);
+			}
+		});
+	}
+
+	/**
+	 * @param columns the requested columns, or <code>null</code> for all columns.
+	 * @param columnCount the number of columns in the widget, 0 if no column was created.
+	 * @return the indexes of the columns to read.
+	 */
+	static int[] columnIndexes(int[] columns, int columnCount) {
+		int available = Math.max(1, columnCount);
+		if (columns == null) {
+			int[] all = new int[available];
+			for (int i = 0; i < available; i++)
+				all[i] = i;
+			return all;
+		}
+		for (int column : columns)
+			Assert.isLegal((column >= 0) && (column < available), "The column number (" + column //$NON-NLS-1$
+					+ ") is more than the number of column(" + columnCount + ")."); //$NON-NLS-1$ //$NON-NLS-2$
+		return columns;
+	}
+
 	/**
 	 * Gets the cell data for the given row and column label.
 	 *
@@ -27,6 +27,7 @@ import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.StringResult;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.EventSequence;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.hamcrest.SelfDescribing;
@@ -91,8 +92,9 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 	@Override
 	protected void clickXY(int x, int y) {
 		log.debug(MessageFormat.format("Clicking on {0}", this)); //$NON-NLS-1$
-		notifyTable(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTable(SWT.Activate, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0), table)
+				.add(SWT.Activate, super.createEvent(), table));
 		syncExec(new VoidResult() {
 			@Override
 			public void run() {
@@ -104,13 +106,14 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 				}
 			}
 		});
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notifyTable(SWT.Selection);
-		notifyTable(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyTable(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTable(SWT.Deactivate, super.createEvent());
-		notifyTable(SWT.FocusOut, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), table)
+				.add(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0), table)
+				.add(SWT.Deactivate, super.createEvent(), table)
+				.add(SWT.FocusOut, super.createEvent(), table));
 		log.debug(MessageFormat.format("Clicked on {0}", this)); //$NON-NLS-1$
 	}
 
@@ -158,8 +161,9 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 		waitForEnabled();
 
 		log.debug(MessageFormat.format("Double-clicking on {0}", this)); //$NON-NLS-1$
-		notifyTable(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notifyTable(SWT.Activate, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0), table)
+				.add(SWT.Activate, super.createEvent(), table));
 		syncExec(new VoidResult() {
 			@Override
 			public void run() {
@@ -171,18 +175,19 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 				}
 			}
 		});
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTable(SWT.Selection);
-		notifyTable(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2));
-		notifyTable(SWT.Selection);
-		notifyTable(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2));
-		notifyTable(SWT.DefaultSelection);
-		notifyTable(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2));
-		notifyTable(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0));
-		notifyTable(SWT.Deactivate, super.createEvent());
-		notifyTable(SWT.FocusOut, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2), table)
+				.add(SWT.Selection, createEvent(), table)
+				.add(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2), table)
+				.add(SWT.DefaultSelection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2), table)
+				.add(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0), table)
+				.add(SWT.Deactivate, super.createEvent(), table)
+				.add(SWT.FocusOut, super.createEvent(), table));
 		log.debug(MessageFormat.format("Double-clicked on {0}", this)); //$NON-NLS-1$
 		return this;
 	}
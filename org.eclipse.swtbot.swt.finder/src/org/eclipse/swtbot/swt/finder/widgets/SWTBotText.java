@@ -100,6 +100,22 @@ public class SWTBotText extends AbstractSWTBotControl<Text> {
 		return this;
 	}
 
+	/**
+	 * Pastes the string in the text box through the clipboard, which is faster than typing long strings.
+	 *
+	 * @param text the text to be pasted.
+	 * @return the same instance.
+	 * @see org.eclipse.swtbot.swt.finder.keyboard.Keyboard#pasteText(String)
+	 * @since 2.7
+	 */
+	public SWTBotText pasteText(final String text) {
+		log.debug(MessageFormat.format("Pasting text:{0} into text {1}", text, this)); //$NON-NLS-1$
+		assertWritable();
+		setFocus();
+		keyboard().pasteText(text);
+		return this;
+	}
+
 	/**
 	 * Notifies of the keyboard event.
 	 * <p>
@@ -27,6 +27,7 @@ import org.eclipse.swtbot.swt.finder.ReferenceBy;
 import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.SWTBotWidget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.finders.TreePathResolver;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.eclipse.swtbot.swt.finder.results.IntResult;
@@ -154,6 +155,17 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 	 * @return the cell at the location specified by the row and column
 	 */
 	public String cell(final int row, final int column) {
+		String cell = syncExec(new StringResult() {
+			@Override
+			public String run() {
+				if ((row < 0) || (row >= widget.getItemCount()) || (column < 0) || (column >= widget.getColumnCount()))
+					return null;
+				return widget.getItem(row).getText(column);
+			}
+		});
+		if (cell != null)
+			return cell;
+
 		int rowCount = rowCount();
 		int columnCount = columnCount();
 
@@ -170,6 +182,58 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 		});
 	}
 
+	/**
+	 * Gets the text of all the visible rows of the tree, read in a single pass on the UI thread. Visible rows are the
+	 * root items and the items of expanded items, in the order in which they are displayed.
+	 *
+	 * @return the cells of the visible rows, a tree without columns is exported as a single column.
+	 * @see #visibleRowCount()
+	 * @since 2.7
+	 */
+	public TableCollection cells() {
+		return cells(null);
+	}
+
+	/**
+	 * Gets the text of the given columns of all the visible rows of the tree, read in a single pass on the UI thread.
+	 *
+	 * @param columns the indexes of the columns to export, in the order in which they are wanted, or <code>null</code>
+	 *            for all columns.
+	 * @return the cells of the visible rows, column <code>i</code> of the result holds the column
+	 *         <code>columns[i]</code> of the tree.
+	 * @see #cells()
+	 * @since 2.7
+	 */
+	public TableCollection cells(final int[] columns) {
+		return syncExec(new Result<TableCollection>() {
+			@Override
+			public TableCollection run() {
+				int[] indexes = SWTBotTable.columnIndexes(columns, widget.getColumnCount());
+				List<TreeItem> rows = new ArrayList<TreeItem>();
+				List<TreeItem> stack = new ArrayList<TreeItem>();
+				pushReversed(stack, widget.getItems());
+				while (!stack.isEmpty()) {
+					TreeItem item = stack.remove(stack.size() - 1);
+					rows.add(item);
+					if (item.getExpanded())
+						pushReversed(stack, item.getItems());
+				}
+				String[][] cells = new String[indexes.length][rows.size()];
+				for (int row = 0; row < rows.size(); row++) {
+					TreeItem item = rows.get(row);
+					for (int column = 0; column < indexes.length; column++)
+						cells[column][row] = item.getText(indexes[column]);
+				}
+				return new TableCollection(cells);
+			}
+
+			private void pushReversed(List<TreeItem> stack, TreeItem[] items) {
+				for (int i = items.length - 1; i >= 0; i--)
+					stack.add(items[i]);
+			}
+		});
+	}
+
 	/**
 	 * Gets the cell data for the given row/column information.
 	 *
@@ -413,22 +477,44 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 	 * @return the last Tree item that was expanded.
 	 * @throws WidgetNotFoundException if any of the nodes on the path do not exist
 	 */
-	public SWTBotTreeItem expandNode(String... nodes) throws WidgetNotFoundException {
-		// TODO: this method should be made iterative instead of recursive
+	public SWTBotTreeItem expandNode(final String... nodes) throws WidgetNotFoundException {
 		Assert.isNotEmpty((Object[]) nodes);
 
 		log.debug(MessageFormat.format("Expanding nodes {0} in tree {1}", StringUtils.join(nodes, ">"), this));
 
 		waitForEnabled();
-		SWTBotTreeItem item = getTreeItem(nodes[0]).expand();
+		final TreePathResolver resolver = syncExec(new Result<TreePathResolver>() {
+			@Override
+			public TreePathResolver run() {
+				return new TreePathResolver(widget, nodes);
+			}
+		});
+		DefaultCondition resolved = new DefaultCondition() {
+			@Override
+			public String getFailureMessage() {
+				return resolver.getFailureMessage();
+			}
 
-		String[] tail = new String[nodes.length - 1];
-		System.arraycopy(nodes, 1, tail, 0, nodes.length - 1);
-		if (tail.length > 0) {
-			item = item.expandNode(tail);
+			@Override
+			public boolean test() throws Exception {
+				return syncExec(new BoolResult() {
+					@Override
+					public Boolean run() {
+						return resolver.resolve() || (resolver.getCollapsedNode() != null);
+					}
+				});
+			}
+		};
+		try {
+			new SWTBot().waitUntil(resolved);
+			while (resolver.getCollapsedNode() != null) {
+				new SWTBotTreeItem(resolver.getCollapsedNode()).expand();
+				new SWTBot().waitUntil(resolved);
+			}
+		} catch (TimeoutException e) {
+			throw new WidgetNotFoundException("Timed out waiting for tree item " + resolver.getMissingNode(), e); //$NON-NLS-1$
 		}
-
-		return item;
+		return new SWTBotTreeItem(resolver.getItem()).expand();
 	}
 
 	/**
@@ -452,23 +538,22 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 		return syncExec(new IntResult() {
 			@Override
 			public Integer run() {
-				TreeItem[] items = widget.getItems();
-				return getVisibleChildrenCount(items);
+				int count = widget.getItemCount();
+				List<TreeItem> expanded = new ArrayList<TreeItem>();
+				for (int i = 0; i < widget.getItemCount(); i++)
+					addExpanded(expanded, widget.getItem(i));
+				while (!expanded.isEmpty()) {
+					TreeItem item = expanded.remove(expanded.size() - 1);
+					count += item.getItemCount();
+					for (int i = 0; i < item.getItemCount(); i++)
+						addExpanded(expanded, item.getItem(i));
+				}
+				return count;
 			}
 
-			private int getVisibleChildrenCount(TreeItem item) {
+			private void addExpanded(List<TreeItem> expanded, TreeItem item) {
 				if (item.getExpanded())
-					return getVisibleChildrenCount(item.getItems());
-				return 0;
-			}
-
-			private int getVisibleChildrenCount(TreeItem[] items) {
-				int count = 0;
-				for (TreeItem item : items) {
-					int j = getVisibleChildrenCount(item) + 1;
-					count += j;
-				}
-				return count;
+					expanded.add(item);
 			}
 		});
 
@@ -563,12 +648,7 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 		return syncExec(new WidgetResult<TreeItem>() {
 			@Override
 			public TreeItem run() {
-				TreeItem[] items = widget.getItems();
-				for (TreeItem item : items) {
-					if (item.getText().equals(nodeText))
-						return item;
-				}
-				return null;
+				return TreePathResolver.findItem(widget, nodeText);
 			}
 		});
 	}
@@ -31,6 +31,7 @@ import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.finders.TreePathResolver;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
@@ -40,6 +41,7 @@ import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.StringResult;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.EventSequence;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
@@ -297,11 +299,26 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		Assert.isNotEmpty((Object[]) nodes);
 		waitForEnabled();
 
-		SWTBotTreeItem item = this;
-		for (String node : nodes)
-			item = item.getNode(node).expand();
-
-		return item;
+		final TreePathResolver resolver = syncExec(new Result<TreePathResolver>() {
+			@Override
+			public TreePathResolver run() {
+				return new TreePathResolver(widget, nodes);
+			}
+		});
+		BoolResult resolve = new BoolResult() {
+			@Override
+			public Boolean run() {
+				return resolver.resolve();
+			}
+		};
+		syncExec(resolve);
+		while (resolver.getCollapsedNode() != null) {
+			new SWTBotTreeItem(resolver.getCollapsedNode()).expand();
+			syncExec(resolve);
+		}
+		if (resolver.getItem() == null)
+			throw new WidgetNotFoundException("Could not find node with text: " + resolver.getMissingNode()); //$NON-NLS-1$
+		return new SWTBotTreeItem(resolver.getItem(), new TextDescription("Tree node with text: " + nodes[nodes.length - 1])).expand();
 	}
 
 	/**
@@ -363,7 +380,15 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	 * @since 1.2
 	 */
 	public SWTBotTreeItem getNode(final String nodeText) {
-		return getNode(nodeText, 0);
+		TreeItem item = syncExec(new WidgetResult<TreeItem>() {
+			@Override
+			public TreeItem run() {
+				return TreePathResolver.findItem(widget, nodeText);
+			}
+		});
+		if (item == null)
+			throw new WidgetNotFoundException("Could not find node with text: " + nodeText); //$NON-NLS-1$
+		return new SWTBotTreeItem(item, new TextDescription("Tree node with text: " + nodeText));
 	}
 
 	/**
@@ -396,8 +421,9 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	@Override
 	protected void clickXY(int x, int y) {
 		log.debug(MessageFormat.format("Clicking on {0}", this)); //$NON-NLS-1$
-		notifyTree(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree));
 		syncExec(new VoidResult() {
 			@Override
 			public void run() {
@@ -409,13 +435,14 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 				}
 			}
 		});
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notifyTree(SWT.Selection);
-		notifyTree(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyTree(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Deactivate, super.createEvent());
-		notifyTree(SWT.FocusOut, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createEvent(), tree)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), tree)
+				.add(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Deactivate, super.createEvent(), tree)
+				.add(SWT.FocusOut, super.createEvent(), tree));
 		log.debug(MessageFormat.format("Clicked on {0}", this)); //$NON-NLS-1$
 	}
 
@@ -456,8 +483,9 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		waitForEnabled();
 
 		log.debug(MessageFormat.format("Double-clicking on {0}", this)); //$NON-NLS-1$
-		notifyTree(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree));
 		syncExec(new VoidResult() {
 			@Override
 			public void run() {
@@ -469,18 +497,19 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 				}
 			}
 		});
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTree(SWT.Selection);
-		notifyTree(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2));
-		notifyTree(SWT.Selection);
-		notifyTree(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2));
-		notifyTree(SWT.DefaultSelection);
-		notifyTree(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2));
-		notifyTree(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0));
-		notifyTree(SWT.Deactivate, super.createEvent());
-		notifyTree(SWT.FocusOut, super.createEvent());
+		notify(new EventSequence()
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createEvent(), tree)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2), tree)
+				.add(SWT.Selection, createEvent(), tree)
+				.add(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2), tree)
+				.add(SWT.DefaultSelection, createEvent(), tree)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2), tree)
+				.add(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0), tree)
+				.add(SWT.Deactivate, super.createEvent(), tree)
+				.add(SWT.FocusOut, super.createEvent(), tree));
 		log.debug(MessageFormat.format("Double-clicked on {0}", this)); //$NON-NLS-1$
 		return this;
 	}
@@ -905,12 +934,7 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		return syncExec(new WidgetResult<TreeItem>() {
 			@Override
 			public TreeItem run() {
-				TreeItem[] items = widget.getItems();
-				for (TreeItem item : items) {
-					if (item.getText().equals(nodeText))
-						return item;
-				}
-				return null;
+				return TreePathResolver.findItem(widget, nodeText);
 			}
 		});
 	}